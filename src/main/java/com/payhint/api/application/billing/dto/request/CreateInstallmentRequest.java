@@ -0,0 +1,13 @@
+package com.payhint.api.application.billing.dto.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+public record CreateInstallmentRequest(
+        @NotNull @DecimalMin("0.01") @Digits(integer = 10, fraction = 2) BigDecimal amountDue,
+        @NotNull LocalDate dueDate) {
+}
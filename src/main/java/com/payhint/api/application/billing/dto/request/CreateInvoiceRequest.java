@@ -1,4 +1,14 @@
 package com.payhint.api.application.billing.dto.request;
 
-public record CreateInvoiceRequest(String customerId, double amountDue, String dueDate) {
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CreateInvoiceRequest(@NotBlank String customerId, @NotBlank @Size(max = 255) String invoiceReference,
+        @NotNull @DecimalMin("0.00") @Digits(integer = 10, fraction = 2) BigDecimal totalAmount,
+        @NotBlank @Size(max = 10) String currency) {
 }
@@ -1,4 +1,12 @@
 package com.payhint.api.application.billing.dto.request;
 
-public record UpdateInvoiceRequest(String customerId, Double amountDue, String dueDate) {
-}
\ No newline at end of file
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Size;
+
+public record UpdateInvoiceRequest(@Size(min = 1, max = 255) String invoiceReference,
+        @DecimalMin("0.00") @Digits(integer = 10, fraction = 2) BigDecimal totalAmount,
+        @Size(min = 1, max = 10) String currency) {
+}
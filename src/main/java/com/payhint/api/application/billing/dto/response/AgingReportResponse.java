@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AgingReportResponse(LocalDate asOf, String groupBy, List<AgingRowResponse> rows) {
+}
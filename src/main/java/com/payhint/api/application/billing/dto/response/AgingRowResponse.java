@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+public record AgingRowResponse(String customerId, String currency, BigDecimal current, BigDecimal days0To30,
+        BigDecimal days31To60, BigDecimal days61To90, BigDecimal over90Days, BigDecimal total) {
+}
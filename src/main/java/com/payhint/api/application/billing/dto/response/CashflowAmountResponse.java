@@ -0,0 +1,6 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+public record CashflowAmountResponse(String currency, BigDecimal expectedAmount, int installmentCount) {
+}
@@ -0,0 +1,8 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record CashflowForecastResponse(LocalDate from, LocalDate to, String granularity,
+        List<CashflowPeriodResponse> periods) {
+}
@@ -0,0 +1,9 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record InstallmentResponse(String id, BigDecimal amountDue, BigDecimal amountPaid, LocalDate dueDate,
+        String status, Long version, List<PaymentResponse> payments) {
+}
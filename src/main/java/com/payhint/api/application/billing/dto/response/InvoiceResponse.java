@@ -1,4 +1,10 @@
 package com.payhint.api.application.billing.dto.response;
 
-public record InvoiceResponse(String id, String customerId, String status, double amountDue, String dueDate) {
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record InvoiceResponse(String id, String customerId, String invoiceReference, BigDecimal totalAmount,
+        BigDecimal totalPaid, BigDecimal totalScheduled, BigDecimal remainingAmount, String currency,
+        List<InstallmentResponse> installments, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
 }
@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+
+public record PaymentReceiptResponse(String invoiceId, String installmentId, PaymentResponse payment,
+        String installmentStatus, BigDecimal invoiceRemainingAmount, boolean replayed) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.billing.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PaymentResponse(String id, BigDecimal amount, LocalDate paymentDate) {
+}
@@ -45,10 +45,18 @@ public interface BillingValueObjectMapper {
     }
 
     default String map(Money money) {
-        return money == null ? "0" : money.amount().toString();
+        return money == null ? "0" : money.amount().toPlainString();
     }
 
     default Money mapToMoney(String amount) {
-        return amount == null ? null : new Money(BigDecimal.valueOf(Double.parseDouble(amount)));
+        return amount == null ? null : new Money(new BigDecimal(amount));
+    }
+
+    default BigDecimal toAmount(Money money) {
+        return money == null ? BigDecimal.ZERO : money.amount();
+    }
+
+    default Money toMoney(BigDecimal amount) {
+        return amount == null ? null : new Money(amount);
     }
 }
@@ -0,0 +1,35 @@
+package com.payhint.api.application.billing.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import com.payhint.api.application.billing.dto.response.InstallmentResponse;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.application.billing.dto.response.PaymentResponse;
+import com.payhint.api.application.shared.ValueObjectMapper;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.repository.RecordedPayment;
+
+@Mapper(componentModel = "spring", uses = { BillingValueObjectMapper.class, ValueObjectMapper.class })
+public interface InvoiceMapper {
+
+    InvoiceResponse toResponse(Invoice invoice);
+
+    List<InvoiceResponse> toResponseList(List<Invoice> invoices);
+
+    InstallmentResponse toResponse(Installment installment);
+
+    PaymentResponse toResponse(Payment payment);
+
+    default PaymentReceiptResponse toReceipt(RecordedPayment recordedPayment, boolean replayed) {
+        PaymentResponse payment = new PaymentResponse(recordedPayment.paymentId().toString(),
+                recordedPayment.amount().amount(), recordedPayment.paymentDate());
+        return new PaymentReceiptResponse(recordedPayment.invoiceId().toString(),
+                recordedPayment.installmentId().toString(), payment, recordedPayment.installmentStatus().name(),
+                recordedPayment.invoiceRemainingAmount().amount(), replayed);
+    }
+}
@@ -0,0 +1,16 @@
+package com.payhint.api.application.billing.mapper;
+
+import org.mapstruct.Mapper;
+
+import com.payhint.api.application.billing.dto.response.AgingRowResponse;
+import com.payhint.api.domain.billing.repository.ReceivablesAging;
+
+@Mapper(componentModel = "spring")
+public interface ReceivablesReportMapper {
+
+    default AgingRowResponse toAgingRow(ReceivablesAging aging) {
+        return new AgingRowResponse(aging.customerId() == null ? null : aging.customerId().toString(),
+                aging.currency(), aging.current().amount(), aging.days0To30().amount(), aging.days31To60().amount(),
+                aging.days61To90().amount(), aging.over90Days().amount(), aging.total().amount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.payhint.api.application.billing.service;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.payhint.api.application.billing.dto.response.CashflowAmountResponse;
+import com.payhint.api.application.billing.dto.response.CashflowPeriodResponse;
+import com.payhint.api.domain.billing.valueobjects.Money;
+
+final class CashflowBuckets {
+
+    enum Granularity {
+        WEEK, MONTH;
+
+        LocalDate align(LocalDate date) {
+            return this == WEEK ? date.with(DayOfWeek.MONDAY) : date.withDayOfMonth(1);
+        }
+
+        LocalDate next(LocalDate start) {
+            return this == WEEK ? start.plusWeeks(1) : start.plusMonths(1);
+        }
+    }
+
+    private final long fromDay;
+    private final long toDay;
+    private final long[] boundaries;
+    private final Map<String, long[]> amounts = new TreeMap<>();
+    private final Map<String, int[]> counts = new TreeMap<>();
+
+    CashflowBuckets(LocalDate from, LocalDate to, Granularity granularity, int maxPeriods) {
+        this.fromDay = from.toEpochDay();
+        this.toDay = to.toEpochDay();
+        List<LocalDate> starts = new ArrayList<>();
+        for (LocalDate start = granularity.align(from); !start.isAfter(to); start = granularity.next(start)) {
+            if (starts.size() == maxPeriods) {
+                throw new IllegalArgumentException("Forecast range cannot span more than " + maxPeriods + " periods.");
+            }
+            starts.add(start);
+        }
+        this.boundaries = new long[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++) {
+            boundaries[i] = starts.get(i).toEpochDay();
+        }
+        boundaries[starts.size()] = granularity.next(starts.get(starts.size() - 1)).toEpochDay();
+    }
+
+    void add(String currency, LocalDate expectedDate, long minorUnits) {
+        long day = expectedDate.toEpochDay();
+        if (day < fromDay || day > toDay) {
+            return;
+        }
+        int found = Arrays.binarySearch(boundaries, day);
+        int index = found >= 0 ? found : -found - 2;
+        long[] sums = amounts.computeIfAbsent(currency, key -> new long[boundaries.length - 1]);
+        sums[index] = Money.addExact(sums[index], minorUnits);
+        counts.computeIfAbsent(currency, key -> new int[boundaries.length - 1])[index]++;
+    }
+
+    List<CashflowPeriodResponse> toPeriods() {
+        List<CashflowPeriodResponse> periods = new ArrayList<>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            List<CashflowAmountResponse> periodAmounts = new ArrayList<>(amounts.size());
+            for (Map.Entry<String, long[]> entry : amounts.entrySet()) {
+                periodAmounts.add(new CashflowAmountResponse(entry.getKey(),
+                        BigDecimal.valueOf(entry.getValue()[i], Money.DEFAULT_SCALE), counts.get(entry.getKey())[i]));
+            }
+            periods.add(new CashflowPeriodResponse(LocalDate.ofEpochDay(boundaries[i]),
+                    LocalDate.ofEpochDay(boundaries[i + 1] - 1), periodAmounts));
+        }
+        return periods;
+    }
+}
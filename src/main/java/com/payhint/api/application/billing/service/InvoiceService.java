@@ -0,0 +1,280 @@
+package com.payhint.api.application.billing.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.application.billing.mapper.InvoiceMapper;
+import com.payhint.api.application.billing.usecases.InvoiceManagementUseCase;
+import com.payhint.api.application.shared.OptimisticLockRetry;
+import com.payhint.api.application.shared.ResourceVersion;
+import com.payhint.api.application.shared.StripedLocks;
+import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
+import com.payhint.api.application.shared.exceptions.NotFoundException;
+import com.payhint.api.application.shared.exceptions.PermissionDeniedException;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.CustomerPaymentStatistics;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.repository.CustomerPaymentStatisticsRepository;
+import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.repository.PaymentIdempotencyRepository;
+import com.payhint.api.domain.billing.repository.PaymentRepository;
+import com.payhint.api.domain.billing.repository.RecordedPayment;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceReference;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+@Service
+@Validated
+public class InvoiceService implements InvoiceManagementUseCase {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final InvoiceRepository invoiceRepository;
+    private final InstallmentRepository installmentRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final CustomerPaymentStatisticsRepository customerPaymentStatisticsRepository;
+    private final CustomerRepository customerRepository;
+    private final UserRepository userRepository;
+    private final InvoiceMapper invoiceMapper;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final StripedLocks invoiceLocks;
+
+    public InvoiceService(InvoiceRepository invoiceRepository, InstallmentRepository installmentRepository,
+            PaymentRepository paymentRepository, PaymentIdempotencyRepository paymentIdempotencyRepository,
+            CustomerPaymentStatisticsRepository customerPaymentStatisticsRepository,
+            CustomerRepository customerRepository, UserRepository userRepository, InvoiceMapper invoiceMapper,
+            OptimisticLockRetry optimisticLockRetry,
+            @Value("${application.concurrency.invoice-locks.stripes:256}") int invoiceLockStripes,
+            @Value("${application.concurrency.invoice-locks.timeout:PT5S}") Duration invoiceLockTimeout) {
+        this.invoiceRepository = invoiceRepository;
+        this.installmentRepository = installmentRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentIdempotencyRepository = paymentIdempotencyRepository;
+        this.customerPaymentStatisticsRepository = customerPaymentStatisticsRepository;
+        this.customerRepository = customerRepository;
+        this.userRepository = userRepository;
+        this.invoiceMapper = invoiceMapper;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.invoiceLocks = new StripedLocks(invoiceLockStripes, invoiceLockTimeout);
+    }
+
+    private Invoice findInvoiceForUser(UserId userId, InvoiceId invoiceId) {
+        return invoiceRepository.findAggregateByIdAndUserId(invoiceId, userId)
+                .orElseThrow(() -> invoiceAccessFailure(userId, invoiceId));
+    }
+
+    private RuntimeException invoiceAccessFailure(UserId userId, InvoiceId invoiceId) {
+        if (!userRepository.existsById(userId)) {
+            return new NotFoundException("User does not exist.");
+        }
+        if (invoiceRepository.existsById(invoiceId)) {
+            return new PermissionDeniedException("User does not have permission to access this invoice.");
+        }
+        return new NotFoundException("Invoice not found.");
+    }
+
+    private void requireCustomerForUser(UserId userId, CustomerId customerId) {
+        if (customerRepository.findVersionByIdAndUserId(customerId, userId).isPresent()) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User does not exist.");
+        }
+        if (customerRepository.existsById(customerId)) {
+            throw new PermissionDeniedException("User does not have permission to access this customer.");
+        }
+        throw new NotFoundException("Customer not found.");
+    }
+
+    @Override
+    @Transactional
+    public InvoiceResponse createInvoice(UserId userId, CreateInvoiceRequest request) {
+        CustomerId customerId = new CustomerId(UUID.fromString(request.customerId()));
+        requireCustomerForUser(userId, customerId);
+        if (invoiceRepository.findByCustomerIdAndInvoiceReference(customerId.value(), request.invoiceReference())
+                .isPresent()) {
+            throw new AlreadyExistsException("An invoice with the same reference already exists for this customer.");
+        }
+
+        Invoice invoice = new Invoice(customerId, new InvoiceReference(request.invoiceReference()),
+                Money.of(request.totalAmount(), request.currency()), request.currency());
+        return invoiceMapper.toResponse(invoiceRepository.save(invoice));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId) {
+        return invoiceMapper.toResponse(findInvoiceForUser(userId, invoiceId));
+    }
+
+    @Override
+    public Optional<ResourceVersion> getInvoiceVersion(UserId userId, InvoiceId invoiceId) {
+        return invoiceRepository.findVersionByIdAndUserId(invoiceId, userId)
+                .map(version -> ResourceVersion.ofVersion(version.version(), version.updatedAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InvoiceResponse> listInvoices(UserId userId, CustomerId customerId) {
+        List<Invoice> invoices = invoiceRepository.findAggregatesByCustomerIdAndUserId(customerId, userId);
+        if (invoices.isEmpty()) {
+            requireCustomerForUser(userId, customerId);
+        }
+        return invoiceMapper.toResponseList(invoices);
+    }
+
+    @Override
+    @Transactional
+    public InvoiceResponse updateInvoice(UserId userId, InvoiceId invoiceId, Long expectedVersion,
+            UpdateInvoiceRequest request) {
+        Invoice invoice = findInvoiceForUser(userId, invoiceId);
+        if (expectedVersion != null && !expectedVersion.equals(invoice.getVersion())) {
+            throw new PreconditionFailedException("Invoice has been modified since it was last read.");
+        }
+
+        InvoiceReference reference = request.invoiceReference() == null ? invoice.getInvoiceReference()
+                : new InvoiceReference(request.invoiceReference());
+        if (!reference.equals(invoice.getInvoiceReference()) && invoiceRepository
+                .findByCustomerIdAndInvoiceReference(invoice.getCustomerId().value(), reference.value()).isPresent()) {
+            throw new AlreadyExistsException("An invoice with the same reference already exists for this customer.");
+        }
+        String currency = request.currency() == null ? invoice.getCurrency() : request.currency();
+        Money totalAmount = request.totalAmount() == null ? invoice.getTotalAmount()
+                : Money.of(request.totalAmount(), currency);
+        invoice.updateInvoice(reference, totalAmount, currency);
+
+        invoiceRepository.save(invoice);
+        return invoiceMapper.toResponse(findInvoiceForUser(userId, invoiceId));
+    }
+
+    @Override
+    @Transactional
+    public InvoiceResponse addInstallment(UserId userId, InvoiceId invoiceId, CreateInstallmentRequest request) {
+        Invoice invoice = findInvoiceForUser(userId, invoiceId);
+        Installment installment = Installment.builder().invoiceId(invoice.getId())
+                .amountDue(Money.of(request.amountDue(), invoice.getCurrency())).dueDate(request.dueDate()).build();
+        invoice.addInstallment(installment);
+
+        installmentRepository.save(installment);
+        invoiceRepository.save(invoice);
+        return invoiceMapper.toResponse(findInvoiceForUser(userId, invoiceId));
+    }
+
+    @Override
+    public PaymentReceiptResponse recordPayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+            String idempotencyKey, RecordPaymentRequest request) {
+        if (idempotencyKey == null) {
+            return invoiceMapper.toReceipt(
+                    serialized(invoiceId, () -> addPayment(userId, invoiceId, installmentId, request, null)), false);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters.");
+        }
+        String fingerprint = fingerprint(invoiceId, installmentId, request);
+        Optional<PaymentReceiptResponse> replay = replay(userId, idempotencyKey, fingerprint);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+        try {
+            return serialized(invoiceId, () -> {
+                // a retry after a conflict may find the key committed by the request it raced with
+                Optional<PaymentReceiptResponse> committed = replay(userId, idempotencyKey, fingerprint);
+                if (committed.isPresent()) {
+                    return committed.get();
+                }
+                RecordedPayment recorded = addPayment(userId, invoiceId, installmentId, request, fingerprint);
+                paymentIdempotencyRepository.save(userId, idempotencyKey, recorded);
+                return invoiceMapper.toReceipt(recorded, false);
+            });
+        } catch (DataIntegrityViolationException e) {
+            return replay(userId, idempotencyKey, fingerprint).orElseThrow(() -> e);
+        }
+    }
+
+    private <T> T serialized(InvoiceId invoiceId, Supplier<T> action) {
+        // the stripe is held across commit so same-invoice writers on this node queue instead of conflicting
+        return invoiceLocks.execute(invoiceId.value(), () -> optimisticLockRetry.execute(action));
+    }
+
+    private Optional<PaymentReceiptResponse> replay(UserId userId, String idempotencyKey, String fingerprint) {
+        return paymentIdempotencyRepository.findByUserIdAndKey(userId, idempotencyKey).map(recorded -> {
+            if (!recorded.fingerprint().equals(fingerprint)) {
+                throw new AlreadyExistsException("Idempotency key has already been used for a different request.");
+            }
+            return invoiceMapper.toReceipt(recorded, true);
+        });
+    }
+
+    private RecordedPayment addPayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+            RecordPaymentRequest request, String fingerprint) {
+        Invoice invoice = findInvoiceForUser(userId, invoiceId);
+        Installment installment = invoice.getInstallments().stream()
+                .filter(candidate -> candidate.getId().equals(installmentId)).findFirst()
+                .orElseThrow(() -> new NotFoundException("Installment not found."));
+        Payment payment = new Payment(installmentId, Money.of(request.amount(), invoice.getCurrency()),
+                request.paymentDate());
+        invoice.addPaymentToInstallment(installment, payment);
+
+        installmentRepository.applyPayment(installment, payment.getAmount());
+        // folded in before the payment is saved, so a first-time seed from history does not count it twice
+        CustomerPaymentStatistics statistics = customerPaymentStatisticsRepository
+                .findByCustomerId(invoice.getCustomerId());
+        statistics.record(invoice.getCreatedAt().toLocalDate(), installment.getDueDate(), payment.getPaymentDate(),
+                payment.getAmount());
+        customerPaymentStatisticsRepository.save(statistics);
+        Payment saved = paymentRepository.save(payment);
+        invoiceRepository.save(invoice);
+        return new RecordedPayment(fingerprint, invoiceId, installmentId, saved.getId(), saved.getAmount(),
+                saved.getPaymentDate(), installment.getStatus(), invoice.getRemainingAmount());
+    }
+
+    private static String fingerprint(InvoiceId invoiceId, InstallmentId installmentId,
+            RecordPaymentRequest request) {
+        String canonical = invoiceId + "|" + installmentId + "|"
+                + request.amount().stripTrailingZeros().toPlainString() + "|" + request.paymentDate();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteInvoice(UserId userId, InvoiceId invoiceId) {
+        if (invoiceRepository.findVersionByIdAndUserId(invoiceId, userId).isEmpty()) {
+            throw invoiceAccessFailure(userId, invoiceId);
+        }
+        invoiceRepository.deleteById(invoiceId.value());
+    }
+}
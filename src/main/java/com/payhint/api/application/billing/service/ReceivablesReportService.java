@@ -0,0 +1,131 @@
+package com.payhint.api.application.billing.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.CashflowForecastResponse;
+import com.payhint.api.application.billing.mapper.ReceivablesReportMapper;
+import com.payhint.api.application.billing.service.CashflowBuckets.Granularity;
+import com.payhint.api.application.billing.usecases.ReceivablesReportUseCase;
+import com.payhint.api.domain.billing.repository.ReceivablesAging;
+import com.payhint.api.domain.billing.repository.ReceivablesAgingRepository;
+import com.payhint.api.domain.billing.repository.ReceivablesStreamRepository;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+@Service
+public class ReceivablesReportService implements ReceivablesReportUseCase {
+
+    static final String GROUP_BY_CURRENCY = "currency";
+    static final String GROUP_BY_CUSTOMER = "customer";
+    static final int MAX_FORECAST_PERIODS = 520;
+
+    private final ReceivablesAgingRepository receivablesAgingRepository;
+    private final ReceivablesStreamRepository receivablesStreamRepository;
+    private final ReceivablesReportMapper receivablesReportMapper;
+
+    public ReceivablesReportService(ReceivablesAgingRepository receivablesAgingRepository,
+            ReceivablesStreamRepository receivablesStreamRepository, ReceivablesReportMapper receivablesReportMapper) {
+        this.receivablesAgingRepository = receivablesAgingRepository;
+        this.receivablesStreamRepository = receivablesStreamRepository;
+        this.receivablesReportMapper = receivablesReportMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AgingReportResponse getAgingReport(UserId userId, String groupBy) {
+        String grouping = groupBy == null ? GROUP_BY_CURRENCY : groupBy.toLowerCase(Locale.ROOT);
+        if (!grouping.equals(GROUP_BY_CURRENCY) && !grouping.equals(GROUP_BY_CUSTOMER)) {
+            throw new IllegalArgumentException(
+                    "groupBy must be '" + GROUP_BY_CURRENCY + "' or '" + GROUP_BY_CUSTOMER + "'.");
+        }
+        LocalDate asOf = LocalDate.now();
+        List<ReceivablesAging> rows = receivablesAgingRepository.findAllByUserId(userId, asOf);
+        List<ReceivablesAging> grouped = grouping.equals(GROUP_BY_CUSTOMER) ? byCustomer(rows) : byCurrency(rows);
+        return new AgingReportResponse(asOf, grouping,
+                grouped.stream().map(receivablesReportMapper::toAgingRow).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CashflowForecastResponse getCashflowForecast(UserId userId, LocalDate from, LocalDate to,
+            String granularity) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from == null ? today : from;
+        LocalDate end = to == null ? start.plusMonths(6).minusDays(1) : to;
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'.");
+        }
+        Granularity periodSize = parseGranularity(granularity);
+        CashflowBuckets buckets = new CashflowBuckets(start, end, periodSize, MAX_FORECAST_PERIODS);
+
+        Map<CustomerId, Long> delays = averagePaymentDelays(userId);
+        receivablesStreamRepository.forEachOpenReceivable(userId, receivable -> {
+            LocalDate expected = receivable.dueDate().plusDays(delays.getOrDefault(receivable.customerId(), 0L));
+            // an unpaid amount can no longer arrive in the past
+            buckets.add(receivable.currency(), expected.isBefore(today) ? today : expected,
+                    receivable.remaining().toMinorUnits(Money.DEFAULT_SCALE));
+        });
+        return new CashflowForecastResponse(start, end, periodSize.name().toLowerCase(Locale.ROOT),
+                buckets.toPeriods());
+    }
+
+    private Map<CustomerId, Long> averagePaymentDelays(UserId userId) {
+        // amount-weighted days between due date and payment, as { weighted days, total weight } per customer
+        Map<CustomerId, double[]> totals = new HashMap<>();
+        receivablesStreamRepository.forEachSettledReceivable(userId, settled -> {
+            double weight = settled.amount().amount().doubleValue();
+            double[] total = totals.computeIfAbsent(settled.customerId(), key -> new double[2]);
+            total[0] += weight * ChronoUnit.DAYS.between(settled.dueDate(), settled.paymentDate());
+            total[1] += weight;
+        });
+        Map<CustomerId, Long> delays = new HashMap<>(totals.size() * 2);
+        totals.forEach((customerId, total) -> {
+            if (total[1] > 0) {
+                delays.put(customerId, Math.round(total[0] / total[1]));
+            }
+        });
+        return delays;
+    }
+
+    private static Granularity parseGranularity(String granularity) {
+        if (granularity == null) {
+            return Granularity.MONTH;
+        }
+        try {
+            return Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("granularity must be 'week' or 'month'.");
+        }
+    }
+
+    private static List<ReceivablesAging> byCurrency(List<ReceivablesAging> rows) {
+        // amounts in different currencies are never summed together
+        Map<String, ReceivablesAging> totals = new TreeMap<>();
+        for (ReceivablesAging row : rows) {
+            ReceivablesAging currencyRow = new ReceivablesAging(null, row.currency(), row.current(), row.days0To30(),
+                    row.days31To60(), row.days61To90(), row.over90Days());
+            totals.merge(row.currency(), currencyRow, ReceivablesAging::plus);
+        }
+        return List.copyOf(totals.values());
+    }
+
+    private static List<ReceivablesAging> byCustomer(List<ReceivablesAging> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparing(ReceivablesAging::currency)
+                        .thenComparing(ReceivablesAging::total, (left, right) -> right.compareTo(left))
+                        .thenComparing(row -> row.customerId().value()))
+                .toList();
+    }
+}
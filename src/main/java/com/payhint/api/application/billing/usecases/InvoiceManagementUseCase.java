@@ -1,16 +1,38 @@
 package com.payhint.api.application.billing.usecases;
 
+import java.util.List;
+import java.util.Optional;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
 import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
 import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
 import com.payhint.api.application.billing.dto.response.InvoiceResponse;
-import com.payhint.api.domain.billing.valueobjects.InvoiceReference;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.application.shared.ResourceVersion;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+import jakarta.validation.Valid;
 
 public interface InvoiceManagementUseCase {
-    InvoiceResponse createInvoice(CreateInvoiceRequest request);
+    InvoiceResponse createInvoice(UserId userId, @Valid CreateInvoiceRequest request);
+
+    InvoiceResponse viewInvoice(UserId userId, InvoiceId invoiceId);
+
+    Optional<ResourceVersion> getInvoiceVersion(UserId userId, InvoiceId invoiceId);
+
+    List<InvoiceResponse> listInvoices(UserId userId, CustomerId customerId);
+
+    InvoiceResponse updateInvoice(UserId userId, InvoiceId invoiceId, Long expectedVersion,
+            @Valid UpdateInvoiceRequest request);
 
-    InvoiceResponse viewInvoice(InvoiceReference invoiceReference);
+    InvoiceResponse addInstallment(UserId userId, InvoiceId invoiceId, @Valid CreateInstallmentRequest request);
 
-    InvoiceResponse updateInvoice(InvoiceReference invoiceReference, UpdateInvoiceRequest request);
+    PaymentReceiptResponse recordPayment(UserId userId, InvoiceId invoiceId, InstallmentId installmentId,
+            String idempotencyKey, @Valid RecordPaymentRequest request);
 
-    void deleteInvoice(InvoiceReference invoiceReference);
+    void deleteInvoice(UserId userId, InvoiceId invoiceId);
 }
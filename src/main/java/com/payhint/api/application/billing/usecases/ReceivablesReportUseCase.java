@@ -0,0 +1,13 @@
+package com.payhint.api.application.billing.usecases;
+
+import java.time.LocalDate;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.CashflowForecastResponse;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface ReceivablesReportUseCase {
+    AgingReportResponse getAgingReport(UserId userId, String groupBy);
+
+    CashflowForecastResponse getCashflowForecast(UserId userId, LocalDate from, LocalDate to, String granularity);
+}
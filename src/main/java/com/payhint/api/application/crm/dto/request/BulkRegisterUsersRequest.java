@@ -0,0 +1,10 @@
+package com.payhint.api.application.crm.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BulkRegisterUsersRequest(@NotEmpty @Size(max = 200) List<@Valid RegisterUserRequest> users) {
+}
@@ -0,0 +1,8 @@
+package com.payhint.api.application.crm.dto.request;
+
+public record ImportCustomerRow(long line, String companyName, String contactEmail, String error) {
+
+    public static ImportCustomerRow invalid(long line, String error) {
+        return new ImportCustomerRow(line, null, null, error);
+    }
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.crm.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record RefreshTokenRequest(@NotBlank @Size(max = 200) String refreshToken) {
+}
@@ -0,0 +1,6 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.util.List;
+
+public record BulkRegisterUsersResponse(List<UserResponse> created, List<String> skipped) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.time.Instant;
+
+public record CustomerDeletionResponse(String customerId, String status, long paymentsDeleted,
+        long installmentsDeleted, long invoicesDeleted, Instant startedAt, Instant finishedAt) {
+}
@@ -0,0 +1,9 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.util.List;
+
+public record CustomerImportResponse(int imported, int skipped, int rejected, List<ImportError> errors) {
+
+    public record ImportError(long line, String message) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.util.List;
+
+public record CustomerPageResponse(List<CustomerResponse> items, String nextCursor) {
+}
@@ -0,0 +1,8 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.math.BigDecimal;
+
+public record CustomerPaymentStatisticsResponse(String customerId, long paymentCount, BigDecimal meanDaysLate,
+        BigDecimal medianDaysLate, BigDecimal daysLateStandardDeviation, BigDecimal daysSalesOutstanding,
+        BigDecimal onTimeRatio) {
+}
@@ -1,4 +1,4 @@
 package com.payhint.api.application.crm.dto.response;
 
-public record CustomerResponse(String id, String userId, String companyName, String contactEmail) {
+public record CustomerResponse(String id, String userId, String companyName, String contactEmail, Long version) {
 }
@@ -0,0 +1,8 @@
+package com.payhint.api.application.crm.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CustomerSummaryResponse(String customerId, BigDecimal totalInvoiced, BigDecimal totalPaid,
+        BigDecimal outstanding, BigDecimal overdueAmount, int overdueInstallmentCount, LocalDate lastPaymentDate) {
+}
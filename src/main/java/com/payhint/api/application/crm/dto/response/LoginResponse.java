@@ -1,4 +1,4 @@
 package com.payhint.api.application.crm.dto.response;
 
-public record LoginResponse(String token) {
+public record LoginResponse(String token, String refreshToken, long expiresIn) {
 }
@@ -1,14 +1,22 @@
 package com.payhint.api.application.crm.mapper;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPaymentStatisticsResponse;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
+import com.payhint.api.application.crm.dto.response.CustomerSummaryResponse;
 import com.payhint.api.application.shared.ValueObjectMapper;
+import com.payhint.api.domain.billing.model.CustomerPaymentStatistics;
+import com.payhint.api.domain.billing.repository.CustomerBalance;
 import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.repository.CustomerPurgeProgress;
 import com.payhint.api.domain.crm.valueobjects.UserId;
 
 @Mapper(componentModel = "spring", uses = { ValueObjectMapper.class })
@@ -26,5 +34,25 @@ public interface CustomerMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toDomain(UserId userId, CreateCustomerRequest request);
+
+    @Mapping(source = "customerId", target = "customerId")
+    CustomerDeletionResponse toDeletionResponse(CustomerPurgeProgress progress);
+
+    default CustomerSummaryResponse toSummaryResponse(CustomerBalance balance) {
+        return new CustomerSummaryResponse(balance.customerId().toString(), balance.totalInvoiced().amount(),
+                balance.totalPaid().amount(), balance.outstanding().amount(), balance.overdueAmount().amount(),
+                balance.overdueInstallmentCount(), balance.lastPaymentDate());
+    }
+
+    default CustomerPaymentStatisticsResponse toPaymentStatisticsResponse(CustomerPaymentStatistics statistics) {
+        return new CustomerPaymentStatisticsResponse(statistics.getCustomerId().toString(),
+                statistics.getPaymentCount(),
+                BigDecimal.valueOf(statistics.getMeanDaysLate()).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(statistics.getMedianDaysLate()).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(statistics.getDaysLateStandardDeviation()).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(statistics.getDaysSalesOutstanding()).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(statistics.getOnTimeRatio()).setScale(4, RoundingMode.HALF_UP));
+    }
 }
@@ -1,24 +1,38 @@
 package com.payhint.api.application.crm.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import com.payhint.api.application.crm.dto.request.BulkRegisterUsersRequest;
 import com.payhint.api.application.crm.dto.request.LoginUserRequest;
+import com.payhint.api.application.crm.dto.request.RefreshTokenRequest;
 import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
+import com.payhint.api.application.crm.dto.response.BulkRegisterUsersResponse;
 import com.payhint.api.application.crm.dto.response.LoginResponse;
 import com.payhint.api.application.crm.dto.response.UserResponse;
 import com.payhint.api.application.crm.mapper.UserMapper;
 import com.payhint.api.application.crm.usecases.AuthenticationUseCase;
+import com.payhint.api.application.shared.UniqueConstraintViolations;
 import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.security.AccessTokenDenylist;
 import com.payhint.api.infrastructure.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.security.RefreshTokenService;
+import com.payhint.api.infrastructure.security.RotatedRefreshToken;
+import com.payhint.api.infrastructure.security.UserPrincipal;
 
 @Service
 @Validated
@@ -29,34 +43,96 @@ public class AuthenticationService implements AuthenticationUseCase {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public AuthenticationService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
-            AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider) {
+            AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider,
+            RefreshTokenService refreshTokenService, AccessTokenDenylist accessTokenDenylist) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     @Override
     public UserResponse register(RegisterUserRequest request) {
         Email email = request.email() == null ? null : new Email(request.email());
-        userRepository.findByEmail(email).ifPresent(user -> {
+        User user = new User(email, passwordEncoder.encode(request.password()), request.firstName(),
+                request.lastName());
+        try {
+            User savedUser = userRepository.register(user);
+            return userMapper.toResponse(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraintViolations.isCausedBy(e)) {
+                throw e;
+            }
             throw new AlreadyExistsException("User with email " + email + " already exists.");
+        }
+    }
+
+    @Override
+    public BulkRegisterUsersResponse registerAll(BulkRegisterUsersRequest request) {
+        Map<Email, RegisterUserRequest> requestsByEmail = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+        for (RegisterUserRequest userRequest : request.users()) {
+            Email email = new Email(userRequest.email());
+            if (requestsByEmail.putIfAbsent(email, userRequest) != null) {
+                skipped.add(email.value());
+            }
+        }
+
+        Set<Email> existingEmails = userRepository.findExistingEmails(requestsByEmail.keySet());
+        List<User> users = new ArrayList<>();
+        // hashing runs before any transaction so no connection is held across up to 200 BCrypt rounds; each round
+        // takes one slot of the bounded hashing pool in turn, so a batch never crowds out concurrent logins
+        requestsByEmail.forEach((email, userRequest) -> {
+            if (existingEmails.contains(email)) {
+                skipped.add(email.value());
+                return;
+            }
+            users.add(new User(email, passwordEncoder.encode(userRequest.password()), userRequest.firstName(),
+                    userRequest.lastName()));
         });
 
-        User user = new User(email, passwordEncoder.encode(request.password()), request.firstName(),
-                request.lastName());
-        User savedUser = userRepository.register(user);
-        return userMapper.toResponse(savedUser);
+        try {
+            List<User> savedUsers = users.isEmpty() ? List.of() : userRepository.registerAll(users);
+            return new BulkRegisterUsersResponse(savedUsers.stream().map(userMapper::toResponse).toList(), skipped);
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraintViolations.isCausedBy(e)) {
+                throw e;
+            }
+            throw new AlreadyExistsException("One or more users were registered concurrently, please retry.");
+        }
     }
 
     @Override
     public LoginResponse login(LoginUserRequest request) {
         Authentication authentication = authenticationManager
                 .authenticate(new UsernamePasswordAuthenticationToken(request.email(), request.password()));
-        UserDetails authUser = (UserDetails) authentication.getPrincipal();
-        return new LoginResponse(jwtTokenProvider.generateToken(authUser));
+        UserPrincipal authUser = (UserPrincipal) authentication.getPrincipal();
+        return toLoginResponse(authUser, refreshTokenService.issue(authUser.getId()));
+    }
+
+    @Override
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RotatedRefreshToken rotated = refreshTokenService.rotate(request.refreshToken());
+        return toLoginResponse(rotated.principal(), rotated.refreshToken());
+    }
+
+    @Override
+    public void logout(RefreshTokenRequest request, String accessToken) {
+        refreshTokenService.revoke(request.refreshToken());
+        if (accessToken != null) {
+            jwtTokenProvider.tryVerify(accessToken).ifPresent(accessTokenDenylist::revoke);
+        }
+    }
+
+    private LoginResponse toLoginResponse(UserPrincipal principal, String refreshToken) {
+        return new LoginResponse(jwtTokenProvider.generateToken(principal), refreshToken,
+                jwtTokenProvider.getExpiration() / 1000);
     }
 }
@@ -0,0 +1,33 @@
+package com.payhint.api.application.crm.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+record CustomerCursor(String companyName, CustomerId customerId) {
+
+    private static final char SEPARATOR = ':';
+
+    static CustomerCursor after(Customer customer) {
+        return new CustomerCursor(customer.getCompanyName(), customer.getId());
+    }
+
+    static CustomerCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            UUID id = UUID.fromString(decoded.substring(0, separator));
+            return new CustomerCursor(decoded.substring(separator + 1), new CustomerId(id));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor.", e);
+        }
+    }
+
+    String encode() {
+        String raw = customerId.value().toString() + SEPARATOR + companyName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,52 +1,106 @@
 package com.payhint.api.application.crm.service;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
+import com.payhint.api.application.crm.dto.request.ImportCustomerRow;
 import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.dto.response.CustomerImportResponse;
+import com.payhint.api.application.crm.dto.response.CustomerImportResponse.ImportError;
+import com.payhint.api.application.crm.dto.response.CustomerPageResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPaymentStatisticsResponse;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
+import com.payhint.api.application.crm.dto.response.CustomerSummaryResponse;
 import com.payhint.api.application.crm.mapper.CustomerMapper;
 import com.payhint.api.application.crm.usecases.CustomerManagementUseCase;
+import com.payhint.api.application.shared.ResourceVersion;
+import com.payhint.api.application.shared.UniqueConstraintViolations;
 import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
 import com.payhint.api.application.shared.exceptions.NotFoundException;
 import com.payhint.api.application.shared.exceptions.PermissionDeniedException;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+import com.payhint.api.domain.billing.model.CustomerPaymentStatistics;
+import com.payhint.api.domain.billing.repository.CustomerBalance;
+import com.payhint.api.domain.billing.repository.CustomerBalanceRepository;
+import com.payhint.api.domain.billing.repository.CustomerPaymentStatisticsRepository;
 import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.repository.CustomerCollectionVersion;
+import com.payhint.api.domain.crm.repository.CustomerPurgeRepository;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.CustomerSearchRepository;
 import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobjects.CustomerId;
 import com.payhint.api.domain.crm.valueobjects.Email;
 import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.domain.shared.exceptions.InvalidPropertyException;
 
 @Service
 @Validated
 public class CustomerService implements CustomerManagementUseCase {
 
+    private static final int MAX_SEARCH_RESULTS = 20;
+    private static final int MAX_REPORTED_IMPORT_ERRORS = 100;
+    private static final int MAX_FIELD_LENGTH = 100;
+    private static final String NAME_IN_USE = "A customer with the same company name already exists for this user.";
+    private static final String DELETED_NAME_IN_USE = "The company name is still held by a deleted customer.";
+
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
+    private final CustomerSearchRepository customerSearchRepository;
+    private final CustomerPurgeRepository customerPurgeRepository;
+    private final CustomerBalanceRepository customerBalanceRepository;
+    private final CustomerPaymentStatisticsRepository customerPaymentStatisticsRepository;
     private final CustomerMapper customerMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int importChunkSize;
 
     public CustomerService(CustomerRepository customerRepository, UserRepository userRepository,
-            CustomerMapper customerMapper) {
+            CustomerSearchRepository customerSearchRepository, CustomerPurgeRepository customerPurgeRepository,
+            CustomerBalanceRepository customerBalanceRepository,
+            CustomerPaymentStatisticsRepository customerPaymentStatisticsRepository, CustomerMapper customerMapper,
+            @Value("${application.pagination.customers.default-size:50}") int defaultPageSize,
+            @Value("${application.pagination.customers.max-size:200}") int maxPageSize,
+            @Value("${application.imports.customers.chunk-size:500}") int importChunkSize) {
         this.customerRepository = customerRepository;
         this.userRepository = userRepository;
+        this.customerSearchRepository = customerSearchRepository;
+        this.customerPurgeRepository = customerPurgeRepository;
+        this.customerBalanceRepository = customerBalanceRepository;
+        this.customerPaymentStatisticsRepository = customerPaymentStatisticsRepository;
         this.customerMapper = customerMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.importChunkSize = importChunkSize;
     }
 
     private Customer findCustomerForUser(UserId userId, CustomerId customerId) {
+        return customerRepository.findByIdAndUserId(customerId, userId)
+                .orElseThrow(() -> customerAccessFailure(userId, customerId));
+    }
+
+    private RuntimeException customerAccessFailure(UserId userId, CustomerId customerId) {
         if (!userRepository.existsById(userId)) {
-            throw new NotFoundException("User does not exist.");
+            return new NotFoundException("User does not exist.");
         }
-
-        Customer existingCustomer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new NotFoundException("Customer not found."));
-
-        if (!existingCustomer.belongsToUser(userId)) {
-            throw new PermissionDeniedException("User does not have permission to access this customer.");
+        if (customerRepository.existsById(customerId)) {
+            return new PermissionDeniedException("User does not have permission to access this customer.");
         }
-        return existingCustomer;
+        return new NotFoundException("Customer not found.");
     }
 
     @Override
@@ -59,13 +113,120 @@ public class CustomerService implements CustomerManagementUseCase {
         }
 
         Customer customer = customerMapper.toDomain(userId, request);
-        Customer savedCustomer = customerRepository.save(customer);
-        return customerMapper.toResponse(savedCustomer);
+        try {
+            return customerMapper.toResponse(customerRepository.save(customer));
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraintViolations.isCausedBy(e)) {
+                throw e;
+            }
+            // a deleted customer keeps its name until the background purge removes the row
+            throw new AlreadyExistsException("A customer with the same company name already exists for this user.");
+        }
+    }
+
+    @Override
+    public CustomerImportResponse importCustomers(UserId userId, Iterator<ImportCustomerRow> rows) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User does not exist.");
+        }
+        ImportTally tally = new ImportTally();
+        List<ImportCustomerRow> chunk = new ArrayList<>(importChunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == importChunkSize) {
+                importChunk(userId, chunk, tally);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(userId, chunk, tally);
+        }
+        return new CustomerImportResponse(tally.imported, tally.skipped, tally.rejected, tally.errors);
+    }
+
+    private void importChunk(UserId userId, List<ImportCustomerRow> chunk, ImportTally tally) {
+        Map<String, ImportCandidate> candidates = new LinkedHashMap<>();
+        for (ImportCustomerRow row : chunk) {
+            if (row.error() != null) {
+                tally.reject(row.line(), row.error());
+                continue;
+            }
+            try {
+                ImportCandidate candidate = new ImportCandidate(row.line(), toImportedCustomer(userId, row));
+                if (candidates.putIfAbsent(candidate.customer().getCompanyName(), candidate) != null) {
+                    tally.skipped++;
+                }
+            } catch (InvalidPropertyException e) {
+                tally.reject(row.line(), e.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingNames = customerRepository.findExistingCompanyNames(userId, candidates.keySet());
+        tally.skipped += existingNames.size();
+        candidates.keySet().removeAll(existingNames);
+        if (!candidates.isEmpty()) {
+            // a deleted customer keeps its name until the background purge removes the row
+            for (String name : customerRepository.findDeletedCompanyNames(userId, candidates.keySet())) {
+                tally.reject(candidates.remove(name).line(), DELETED_NAME_IN_USE);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        try {
+            customerRepository.saveAll(candidates.values().stream().map(ImportCandidate::customer).toList());
+            tally.imported += candidates.size();
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraintViolations.isCausedBy(e)) {
+                throw e;
+            }
+            // a name was taken concurrently; save the rows one by one so only the conflicting ones are rejected
+            for (ImportCandidate candidate : candidates.values()) {
+                importOne(candidate, tally);
+            }
+        }
+    }
+
+    private void importOne(ImportCandidate candidate, ImportTally tally) {
+        try {
+            customerRepository.save(candidate.customer());
+            tally.imported++;
+        } catch (DataIntegrityViolationException e) {
+            if (!UniqueConstraintViolations.isCausedBy(e)) {
+                throw e;
+            }
+            tally.reject(candidate.line(), NAME_IN_USE);
+        }
+    }
+
+    private Customer toImportedCustomer(UserId userId, ImportCustomerRow row) {
+        String companyName = row.companyName() == null ? null : row.companyName().trim();
+        String contactEmail = row.contactEmail() == null ? null : row.contactEmail().trim();
+        if ((companyName != null && companyName.length() > MAX_FIELD_LENGTH)
+                || (contactEmail != null && contactEmail.length() > MAX_FIELD_LENGTH)) {
+            throw new InvalidPropertyException("Fields cannot exceed " + MAX_FIELD_LENGTH + " characters");
+        }
+        Email email = contactEmail == null || contactEmail.isEmpty() ? null : new Email(contactEmail);
+        return new Customer(userId, companyName, email);
     }
 
     @Override
+    @Transactional
     public CustomerResponse updateCustomerDetails(UserId userId, CustomerId customerId, UpdateCustomerRequest request) {
+        return updateCustomerDetails(userId, customerId, null, request);
+    }
+
+    @Override
+    @Transactional
+    public CustomerResponse updateCustomerDetails(UserId userId, CustomerId customerId, Long expectedVersion,
+            UpdateCustomerRequest request) {
         Customer existingCustomer = findCustomerForUser(userId, customerId);
+        if (expectedVersion != null && !expectedVersion.equals(existingCustomer.getVersion())) {
+            throw new PreconditionFailedException("Customer has been modified since it was last read.");
+        }
 
         var contactEmail = request.contactEmail() == null ? null : new Email(request.contactEmail());
         existingCustomer.updateInformation(request.companyName(), contactEmail);
@@ -73,24 +234,136 @@ public class CustomerService implements CustomerManagementUseCase {
     }
 
     @Override
-    public void deleteCustomer(UserId userId, CustomerId customerId) {
-        Customer existingCustomer = findCustomerForUser(userId, customerId);
-        customerRepository.delete(existingCustomer);
+    @Transactional
+    public CustomerDeletionResponse deleteCustomer(UserId userId, CustomerId customerId) {
+        if (!customerRepository.markDeletedByIdAndUserId(customerId, userId)) {
+            throw customerAccessFailure(userId, customerId);
+        }
+        return getCustomerDeletion(userId, customerId);
     }
 
     @Override
+    public CustomerDeletionResponse getCustomerDeletion(UserId userId, CustomerId customerId) {
+        return customerPurgeRepository.findProgress(userId, customerId).map(customerMapper::toDeletionResponse)
+                .orElseThrow(() -> new NotFoundException("Customer deletion not found."));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public CustomerResponse viewCustomerProfile(UserId userId, CustomerId customerId) {
-        Customer existingCustomer = findCustomerForUser(userId, customerId);
+        Customer existingCustomer = customerRepository.findReadOnlyByIdAndUserId(customerId, userId)
+                .orElseThrow(() -> customerAccessFailure(userId, customerId));
         return customerMapper.toResponse(existingCustomer);
     }
 
     @Override
+    public Optional<ResourceVersion> getCustomerVersion(UserId userId, CustomerId customerId) {
+        return customerRepository.findVersionByIdAndUserId(customerId, userId)
+                .map(version -> ResourceVersion.ofVersion(version.version(), version.updatedAt()));
+    }
+
+    @Override
+    public ResourceVersion getCustomerCollectionVersion(UserId userId, String cursor, Integer limit) {
+        CustomerCollectionVersion version = customerRepository.findCollectionVersion(userId);
+        return ResourceVersion.of(null, userId, version.count(), version.lastUpdatedAt(), cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<CustomerResponse> listAllCustomers(UserId userId) {
-        if (!userRepository.existsById(userId)) {
+        List<Customer> customers = customerRepository.findAllByUserId(userId);
+        if (customers.isEmpty() && !userRepository.existsById(userId)) {
             throw new NotFoundException("User does not exist.");
         }
-        List<Customer> customers = customerRepository.findAllByUserId(userId);
         return customerMapper.toResponseList(customers);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerPageResponse listCustomers(UserId userId, String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        CustomerCursor after = cursor == null || cursor.isBlank() ? null : CustomerCursor.decode(cursor);
+
+        List<Customer> customers = after == null
+                ? customerRepository.findPageByUserId(userId, null, null, pageSize + 1)
+                : customerRepository.findPageByUserId(userId, after.companyName(), after.customerId(), pageSize + 1);
+        if (customers.isEmpty() && after == null && !userRepository.existsById(userId)) {
+            throw new NotFoundException("User does not exist.");
+        }
+
+        boolean hasMore = customers.size() > pageSize;
+        List<Customer> page = hasMore ? customers.subList(0, pageSize) : customers;
+        String nextCursor = hasMore ? CustomerCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new CustomerPageResponse(customerMapper.toResponseList(page), nextCursor);
+    }
+
+    @Override
+    public List<CustomerResponse> searchCustomers(UserId userId, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int resultSize = limit == null ? MAX_SEARCH_RESULTS : Math.min(limit, MAX_SEARCH_RESULTS);
+        if (resultSize < 1) {
+            throw new IllegalArgumentException("Result size must be positive.");
+        }
+        return customerMapper.toResponseList(customerSearchRepository.search(userId, query, resultSize));
+    }
+
+    @Override
+    @Transactional
+    public CustomerSummaryResponse getCustomerSummary(UserId userId, CustomerId customerId) {
+        List<CustomerBalance> balances = customerBalanceRepository.findAllByUserIdAndCustomerIds(userId,
+                List.of(customerId));
+        if (balances.isEmpty()) {
+            throw customerAccessFailure(userId, customerId);
+        }
+        return customerMapper.toSummaryResponse(balances.get(0));
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerSummaryResponse> getCustomerSummaries(UserId userId, List<CustomerId> customerIds) {
+        if (customerIds.size() > maxPageSize) {
+            throw new IllegalArgumentException("At most " + maxPageSize + " customer ids can be requested at once.");
+        }
+        return customerBalanceRepository.findAllByUserIdAndCustomerIds(userId, customerIds).stream()
+                .map(customerMapper::toSummaryResponse).toList();
+    }
+
+    @Override
+    @Transactional
+    public CustomerPaymentStatisticsResponse getCustomerPaymentStatistics(UserId userId, CustomerId customerId) {
+        findCustomerForUser(userId, customerId);
+        CustomerPaymentStatistics statistics = customerPaymentStatisticsRepository.findByCustomerId(customerId);
+        if (statistics.getVersion() == null) {
+            // store the seed replayed from earlier payments so later reads stay a single-row lookup
+            try {
+                statistics = customerPaymentStatisticsRepository.save(statistics);
+            } catch (OptimisticLockingFailureException e) {
+                statistics = customerPaymentStatisticsRepository.findByCustomerId(customerId);
+            }
+        }
+        return customerMapper.toPaymentStatisticsResponse(statistics);
+    }
+
+    private record ImportCandidate(long line, Customer customer) {
+    }
+
+    private static final class ImportTally {
+
+        private int imported;
+        private int skipped;
+        private int rejected;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_IMPORT_ERRORS) {
+                errors.add(new ImportError(line, message));
+            }
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package com.payhint.api.application.crm.usecases;
 
+import com.payhint.api.application.crm.dto.request.BulkRegisterUsersRequest;
 import com.payhint.api.application.crm.dto.request.LoginUserRequest;
+import com.payhint.api.application.crm.dto.request.RefreshTokenRequest;
 import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
+import com.payhint.api.application.crm.dto.response.BulkRegisterUsersResponse;
 import com.payhint.api.application.crm.dto.response.LoginResponse;
 import com.payhint.api.application.crm.dto.response.UserResponse;
 
@@ -10,5 +13,11 @@ import jakarta.validation.Valid;
 public interface AuthenticationUseCase {
     UserResponse register(@Valid RegisterUserRequest request);
 
+    BulkRegisterUsersResponse registerAll(@Valid BulkRegisterUsersRequest request);
+
     LoginResponse login(@Valid LoginUserRequest request);
+
+    LoginResponse refresh(@Valid RefreshTokenRequest request);
+
+    void logout(@Valid RefreshTokenRequest request, String accessToken);
 }
@@ -1,10 +1,19 @@
 package com.payhint.api.application.crm.usecases;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
+import com.payhint.api.application.crm.dto.request.ImportCustomerRow;
 import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.dto.response.CustomerImportResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPageResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPaymentStatisticsResponse;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
+import com.payhint.api.application.crm.dto.response.CustomerSummaryResponse;
+import com.payhint.api.application.shared.ResourceVersion;
 import com.payhint.api.domain.crm.valueobjects.CustomerId;
 import com.payhint.api.domain.crm.valueobjects.UserId;
 
@@ -13,11 +22,32 @@ import jakarta.validation.Valid;
 public interface CustomerManagementUseCase {
     CustomerResponse viewCustomerProfile(UserId userId, CustomerId customerId);
 
+    Optional<ResourceVersion> getCustomerVersion(UserId userId, CustomerId customerId);
+
+    ResourceVersion getCustomerCollectionVersion(UserId userId, String cursor, Integer limit);
+
     List<CustomerResponse> listAllCustomers(UserId userId);
 
+    CustomerPageResponse listCustomers(UserId userId, String cursor, Integer limit);
+
+    List<CustomerResponse> searchCustomers(UserId userId, String query, Integer limit);
+
+    CustomerSummaryResponse getCustomerSummary(UserId userId, CustomerId customerId);
+
+    List<CustomerSummaryResponse> getCustomerSummaries(UserId userId, List<CustomerId> customerIds);
+
+    CustomerPaymentStatisticsResponse getCustomerPaymentStatistics(UserId userId, CustomerId customerId);
+
     CustomerResponse createCustomer(UserId userId, @Valid CreateCustomerRequest request);
 
+    CustomerImportResponse importCustomers(UserId userId, Iterator<ImportCustomerRow> rows);
+
     CustomerResponse updateCustomerDetails(UserId userId, CustomerId customerId, @Valid UpdateCustomerRequest request);
 
-    void deleteCustomer(UserId userId, CustomerId customerId);
+    CustomerResponse updateCustomerDetails(UserId userId, CustomerId customerId, Long expectedVersion,
+            @Valid UpdateCustomerRequest request);
+
+    CustomerDeletionResponse deleteCustomer(UserId userId, CustomerId customerId);
+
+    CustomerDeletionResponse getCustomerDeletion(UserId userId, CustomerId customerId);
 }
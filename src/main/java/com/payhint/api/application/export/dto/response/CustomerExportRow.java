@@ -0,0 +1,17 @@
+package com.payhint.api.application.export.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public record CustomerExportRow(UUID id, String companyName, String contactEmail, LocalDateTime createdAt,
+        LocalDateTime updatedAt) implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "companyName", "contactEmail", "createdAt", "updatedAt");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, companyName, contactEmail, createdAt, updatedAt);
+    }
+}
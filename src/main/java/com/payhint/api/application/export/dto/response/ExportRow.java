@@ -0,0 +1,8 @@
+package com.payhint.api.application.export.dto.response;
+
+import java.util.List;
+
+public interface ExportRow {
+
+    List<Object> values();
+}
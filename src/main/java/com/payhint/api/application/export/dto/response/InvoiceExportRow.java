@@ -0,0 +1,21 @@
+package com.payhint.api.application.export.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public record InvoiceExportRow(UUID id, UUID customerId, String companyName, String invoiceReference,
+        BigDecimal totalAmount, String currency, LocalDateTime createdAt, LocalDateTime updatedAt)
+        implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "customerId", "companyName", "invoiceReference",
+            "totalAmount", "currency", "createdAt", "updatedAt");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, customerId, companyName, invoiceReference, totalAmount, currency, createdAt,
+                updatedAt);
+    }
+}
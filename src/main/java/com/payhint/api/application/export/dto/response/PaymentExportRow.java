@@ -0,0 +1,22 @@
+package com.payhint.api.application.export.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public record PaymentExportRow(UUID id, UUID invoiceId, String invoiceReference, String companyName,
+        UUID installmentId, LocalDate dueDate, BigDecimal amount, String currency, LocalDate paymentDate,
+        LocalDateTime createdAt) implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "invoiceId", "invoiceReference", "companyName",
+            "installmentId", "dueDate", "amount", "currency", "paymentDate", "createdAt");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, invoiceId, invoiceReference, companyName, installmentId, dueDate, amount, currency,
+                paymentDate, createdAt);
+    }
+}
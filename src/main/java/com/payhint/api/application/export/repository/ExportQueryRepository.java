@@ -0,0 +1,17 @@
+package com.payhint.api.application.export.repository;
+
+import java.util.function.Consumer;
+
+import com.payhint.api.application.export.dto.response.CustomerExportRow;
+import com.payhint.api.application.export.dto.response.InvoiceExportRow;
+import com.payhint.api.application.export.dto.response.PaymentExportRow;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface ExportQueryRepository {
+
+    void forEachCustomer(UserId userId, Consumer<CustomerExportRow> action);
+
+    void forEachInvoice(UserId userId, Consumer<InvoiceExportRow> action);
+
+    void forEachPayment(UserId userId, Consumer<PaymentExportRow> action);
+}
@@ -0,0 +1,41 @@
+package com.payhint.api.application.export.service;
+
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.export.dto.response.CustomerExportRow;
+import com.payhint.api.application.export.dto.response.InvoiceExportRow;
+import com.payhint.api.application.export.dto.response.PaymentExportRow;
+import com.payhint.api.application.export.repository.ExportQueryRepository;
+import com.payhint.api.application.export.usecases.DataExportUseCase;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+@Service
+public class DataExportService implements DataExportUseCase {
+
+    private final ExportQueryRepository exportQueryRepository;
+
+    public DataExportService(ExportQueryRepository exportQueryRepository) {
+        this.exportQueryRepository = exportQueryRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomers(UserId userId, Consumer<CustomerExportRow> action) {
+        exportQueryRepository.forEachCustomer(userId, action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInvoices(UserId userId, Consumer<InvoiceExportRow> action) {
+        exportQueryRepository.forEachInvoice(userId, action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPayments(UserId userId, Consumer<PaymentExportRow> action) {
+        exportQueryRepository.forEachPayment(userId, action);
+    }
+}
@@ -0,0 +1,16 @@
+package com.payhint.api.application.export.usecases;
+
+import java.util.function.Consumer;
+
+import com.payhint.api.application.export.dto.response.CustomerExportRow;
+import com.payhint.api.application.export.dto.response.InvoiceExportRow;
+import com.payhint.api.application.export.dto.response.PaymentExportRow;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface DataExportUseCase {
+    void exportCustomers(UserId userId, Consumer<CustomerExportRow> action);
+
+    void exportInvoices(UserId userId, Consumer<InvoiceExportRow> action);
+
+    void exportPayments(UserId userId, Consumer<PaymentExportRow> action);
+}
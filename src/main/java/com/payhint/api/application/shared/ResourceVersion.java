@@ -0,0 +1,24 @@
+package com.payhint.api.application.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public record ResourceVersion(String tag, Instant lastModified) {
+
+    public static ResourceVersion ofVersion(long version, LocalDateTime lastModified) {
+        return new ResourceVersion(String.valueOf(version),
+                lastModified == null ? null : lastModified.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public static ResourceVersion of(LocalDateTime lastModified, Object... components) {
+        String key = Arrays.stream(components).map(String::valueOf).collect(Collectors.joining("|"));
+        String tag = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+        return new ResourceVersion(tag,
+                lastModified == null ? null : lastModified.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
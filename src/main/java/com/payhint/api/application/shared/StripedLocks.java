@@ -0,0 +1,58 @@
+package com.payhint.api.application.shared;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.payhint.api.application.shared.exceptions.ServiceUnavailableException;
+
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long timeoutNanos;
+
+    public StripedLocks(int stripes, Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            // fair locks hand a contended stripe over in arrival order
+            locks[i] = new ReentrantLock(true);
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public <T> T execute(UUID key, Supplier<T> action) {
+        ReentrantLock lock = locks[indexOf(key)];
+        if (!awaitLock(lock)) {
+            throw new ServiceUnavailableException("Resource is busy, please retry shortly.");
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitLock(ReentrantLock lock) {
+        try {
+            // unlike tryLock(), the timed variant honours fairness and still returns at once when the stripe is free
+            return lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a busy resource.");
+        }
+    }
+
+    private int indexOf(UUID key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+}
@@ -0,0 +1,23 @@
+package com.payhint.api.application.shared;
+
+import java.sql.SQLException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+public final class UniqueConstraintViolations {
+
+    // SQL standard state for a unique violation, reported alike by PostgreSQL and H2
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueConstraintViolations() {
+    }
+
+    public static boolean isCausedBy(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.application.shared.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
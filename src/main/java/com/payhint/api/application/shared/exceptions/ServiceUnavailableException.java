@@ -0,0 +1,7 @@
+package com.payhint.api.application.shared.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.payhint.api.domain.billing.events;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public record ReceivablesChangedEvent(CustomerId customerId) {
+}
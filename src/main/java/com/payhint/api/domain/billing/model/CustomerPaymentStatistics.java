@@ -0,0 +1,149 @@
+package com.payhint.api.domain.billing.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerPaymentStatistics {
+
+    public static final int MEDIAN_MARKERS = 5;
+
+    // P² marker increments for the 0.5 quantile: minimum, two intermediate markers, median, maximum
+    private static final double[] MARKER_INCREMENTS = { 0.0, 0.25, 0.5, 0.75, 1.0 };
+
+    private CustomerId customerId;
+    private long paymentCount;
+    private long onTimeCount;
+    private double meanDaysLate;
+    private double daysLateSquaredDeviations;
+    private double[] medianMarkerHeights;
+    private long[] medianMarkerPositions;
+    private double collectedWeight;
+    private double daysSalesOutstanding;
+    private Long version;
+
+    public CustomerPaymentStatistics(CustomerId customerId) {
+        this.customerId = customerId;
+        this.medianMarkerHeights = new double[MEDIAN_MARKERS];
+        this.medianMarkerPositions = new long[MEDIAN_MARKERS];
+    }
+
+    public void record(LocalDate issueDate, LocalDate dueDate, LocalDate paymentDate, Money amount) {
+        if (issueDate == null || dueDate == null || paymentDate == null || amount == null) {
+            throw new IllegalArgumentException("Issue date, due date, payment date and amount are required.");
+        }
+        long daysLate = Math.max(0, ChronoUnit.DAYS.between(dueDate, paymentDate));
+        paymentCount++;
+        if (daysLate == 0) {
+            onTimeCount++;
+        }
+
+        // Welford's update keeps the mean and variance numerically stable without the individual samples
+        double delta = daysLate - meanDaysLate;
+        meanDaysLate += delta / paymentCount;
+        daysLateSquaredDeviations += delta * (daysLate - meanDaysLate);
+
+        recordMedianSample(daysLate);
+
+        double weight = amount.amount().doubleValue();
+        if (weight > 0) {
+            long daysToCollect = Math.max(0, ChronoUnit.DAYS.between(issueDate, paymentDate));
+            collectedWeight += weight;
+            daysSalesOutstanding += weight / collectedWeight * (daysToCollect - daysSalesOutstanding);
+        }
+    }
+
+    public double getDaysLateVariance() {
+        return paymentCount < 2 ? 0.0 : daysLateSquaredDeviations / (paymentCount - 1);
+    }
+
+    public double getDaysLateStandardDeviation() {
+        return Math.sqrt(getDaysLateVariance());
+    }
+
+    public double getMedianDaysLate() {
+        if (paymentCount == 0) {
+            return 0.0;
+        }
+        if (paymentCount > MEDIAN_MARKERS) {
+            return medianMarkerHeights[2];
+        }
+        double[] samples = Arrays.copyOf(medianMarkerHeights, (int) paymentCount);
+        Arrays.sort(samples);
+        int middle = samples.length / 2;
+        return samples.length % 2 == 1 ? samples[middle] : (samples[middle - 1] + samples[middle]) / 2;
+    }
+
+    public double getOnTimeRatio() {
+        return paymentCount == 0 ? 0.0 : (double) onTimeCount / paymentCount;
+    }
+
+    // P² (Jain & Chlamtac): five markers track the minimum, maximum and median in constant space
+    private void recordMedianSample(double sample) {
+        double[] heights = medianMarkerHeights;
+        long[] positions = medianMarkerPositions;
+        if (paymentCount <= MEDIAN_MARKERS) {
+            heights[(int) paymentCount - 1] = sample;
+            if (paymentCount == MEDIAN_MARKERS) {
+                Arrays.sort(heights);
+                for (int i = 0; i < MEDIAN_MARKERS; i++) {
+                    positions[i] = i + 1;
+                }
+            }
+            return;
+        }
+
+        int cell;
+        if (sample < heights[0]) {
+            heights[0] = sample;
+            cell = 0;
+        } else if (sample >= heights[MEDIAN_MARKERS - 1]) {
+            heights[MEDIAN_MARKERS - 1] = sample;
+            cell = MEDIAN_MARKERS - 2;
+        } else {
+            cell = 0;
+            while (sample >= heights[cell + 1]) {
+                cell++;
+            }
+        }
+        for (int i = cell + 1; i < MEDIAN_MARKERS; i++) {
+            positions[i]++;
+        }
+
+        for (int i = 1; i < MEDIAN_MARKERS - 1; i++) {
+            double desired = 1 + (paymentCount - 1) * MARKER_INCREMENTS[i];
+            double offset = desired - positions[i];
+            if ((offset >= 1 && positions[i + 1] - positions[i] > 1)
+                    || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int step = offset > 0 ? 1 : -1;
+                double candidate = parabolic(i, step);
+                heights[i] = heights[i - 1] < candidate && candidate < heights[i + 1] ? candidate : linear(i, step);
+                positions[i] += step;
+            }
+        }
+    }
+
+    private double parabolic(int i, int step) {
+        double[] q = medianMarkerHeights;
+        long[] n = medianMarkerPositions;
+        return q[i] + (double) step / (n[i + 1] - n[i - 1])
+                * ((n[i] - n[i - 1] + step) * (q[i + 1] - q[i]) / (n[i + 1] - n[i])
+                        + (n[i + 1] - n[i] - step) * (q[i] - q[i - 1]) / (n[i] - n[i - 1]));
+    }
+
+    private double linear(int i, int step) {
+        double[] q = medianMarkerHeights;
+        long[] n = medianMarkerPositions;
+        return q[i] + step * (q[i + step] - q[i]) / (n[i + step] - n[i]);
+    }
+}
@@ -1,6 +1,5 @@
 package com.payhint.api.domain.billing.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +25,7 @@ public class Installment {
     private LocalDate dueDate;
     @Builder.Default
     private PaymentStatus status = PaymentStatus.PENDING;
+    private Long version;
 
     @Builder.Default
     private List<Payment> payments = new ArrayList<>();
@@ -33,7 +33,10 @@ public class Installment {
     public Installment(InvoiceId invoiceId, Money amountDue, LocalDate dueDate) {
         this.invoiceId = invoiceId;
         this.amountDue = amountDue;
+        this.amountPaid = Money.ZERO;
         this.dueDate = dueDate;
+        this.status = PaymentStatus.PENDING;
+        this.payments = new ArrayList<>();
     }
 
     private void updateStatus(PaymentStatus newStatus) {
@@ -60,7 +63,7 @@ public class Installment {
 
     private void updatePaymentStatus() {
         Money remaining = getRemainingAmount();
-        if (remaining.amount().compareTo(BigDecimal.ZERO) == 0) {
+        if (remaining.isZero()) {
             updateStatus(PaymentStatus.PAID);
         } else if (remaining.compareTo(amountDue) < 0) {
             updateStatus(PaymentStatus.PARTIALLY_PAID);
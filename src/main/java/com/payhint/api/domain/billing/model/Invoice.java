@@ -26,9 +26,14 @@ public class Invoice {
     private CustomerId customerId;
     private InvoiceReference invoiceReference;
     private Money totalAmount;
+    @Builder.Default
+    private Money totalPaid = Money.ZERO;
+    @Builder.Default
+    private Money totalScheduled = Money.ZERO;
     private String currency;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     @Builder.Default
     private List<Installment> installments = new ArrayList<>();
@@ -38,6 +43,8 @@ public class Invoice {
         this.customerId = customerId;
         this.invoiceReference = invoiceReference;
         this.totalAmount = totalAmount;
+        this.totalPaid = Money.ZERO;
+        this.totalScheduled = Money.ZERO;
         this.currency = currency;
         this.createdAt = null;
         this.updatedAt = null;
@@ -51,6 +58,9 @@ public class Invoice {
     }
 
     public void updateInvoice(InvoiceReference invoiceReference, Money totalAmount, String currency) {
+        if (totalAmount.compareTo(totalPaid) < 0) {
+            throw new InvalidMoneyValueException("Invoice total cannot be lower than the amount already paid.");
+        }
         this.invoiceReference = invoiceReference;
         this.totalAmount = totalAmount;
         this.currency = currency;
@@ -63,6 +73,7 @@ public class Invoice {
             throw new InvalidMoneyValueException("Payment amount exceeds remaining installment amount.");
         }
         installment.addPayment(payment);
+        this.totalPaid = this.totalPaid.add(payment.getAmount());
     }
 
     public void addInstallment(Installment installment) {
@@ -74,17 +85,15 @@ public class Invoice {
         }
 
         this.installments.add(installment);
-    }
-
-    public Money getTotalPaid() {
-        return installments.stream().map(Installment::getAmountPaid).reduce(Money.ZERO, Money::add);
+        this.totalScheduled = this.totalScheduled.add(installment.getAmountDue());
+        this.totalPaid = this.totalPaid.add(installment.getAmountPaid());
     }
 
     public Money getRemainingAmount() {
-        return totalAmount.subtract(getTotalPaid());
+        return totalAmount.subtract(totalPaid);
     }
 
     public boolean isFullyPaid() {
-        return getRemainingAmount().compareTo(Money.ZERO) == 0;
+        return getRemainingAmount().isZero();
     }
 }
@@ -0,0 +1,18 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDate;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public record CustomerBalance(CustomerId customerId, Money totalInvoiced, Money totalPaid, Money overdueAmount,
+        int overdueInstallmentCount, LocalDate lastPaymentDate) {
+
+    public static CustomerBalance empty(CustomerId customerId) {
+        return new CustomerBalance(customerId, Money.ZERO, Money.ZERO, Money.ZERO, 0, null);
+    }
+
+    public Money outstanding() {
+        return totalPaid.compareTo(totalInvoiced) >= 0 ? Money.ZERO : totalInvoiced.subtract(totalPaid);
+    }
+}
@@ -0,0 +1,12 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface CustomerBalanceRepository {
+
+    List<CustomerBalance> findAllByUserIdAndCustomerIds(UserId userId, Collection<CustomerId> customerIds);
+}
@@ -0,0 +1,11 @@
+package com.payhint.api.domain.billing.repository;
+
+import com.payhint.api.domain.billing.model.CustomerPaymentStatistics;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public interface CustomerPaymentStatisticsRepository {
+
+    CustomerPaymentStatistics findByCustomerId(CustomerId customerId);
+
+    CustomerPaymentStatistics save(CustomerPaymentStatistics statistics);
+}
@@ -5,6 +5,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
 
 public interface InvoiceRepository {
 
@@ -16,5 +19,13 @@ public interface InvoiceRepository {
 
     Optional<Invoice> findByCustomerIdAndInvoiceReference(UUID customerId, String invoiceReference);
 
+    Optional<Invoice> findAggregateByIdAndUserId(InvoiceId id, UserId userId);
+
+    List<Invoice> findAggregatesByCustomerIdAndUserId(CustomerId customerId, UserId userId);
+
+    Optional<InvoiceVersion> findVersionByIdAndUserId(InvoiceId id, UserId userId);
+
+    boolean existsById(InvoiceId id);
+
     void deleteById(UUID id);
 }
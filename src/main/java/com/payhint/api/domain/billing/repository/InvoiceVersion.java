@@ -0,0 +1,6 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDateTime;
+
+public record InvoiceVersion(long version, LocalDateTime updatedAt) {
+}
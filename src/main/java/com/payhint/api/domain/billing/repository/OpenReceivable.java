@@ -0,0 +1,9 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDate;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public record OpenReceivable(CustomerId customerId, String currency, LocalDate dueDate, Money remaining) {
+}
@@ -0,0 +1,12 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.util.Optional;
+
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface PaymentIdempotencyRepository {
+
+    Optional<RecordedPayment> findByUserIdAndKey(UserId userId, String idempotencyKey);
+
+    void save(UserId userId, String idempotencyKey, RecordedPayment recordedPayment);
+}
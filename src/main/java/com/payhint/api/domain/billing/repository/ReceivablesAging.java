@@ -0,0 +1,22 @@
+package com.payhint.api.domain.billing.repository;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public record ReceivablesAging(CustomerId customerId, String currency, Money current, Money days0To30,
+        Money days31To60, Money days61To90, Money over90Days) {
+
+    public Money total() {
+        return current.add(days0To30).add(days31To60).add(days61To90).add(over90Days);
+    }
+
+    public ReceivablesAging plus(ReceivablesAging other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot combine receivables in different currencies");
+        }
+        CustomerId combinedCustomer = customerId != null && customerId.equals(other.customerId) ? customerId : null;
+        return new ReceivablesAging(combinedCustomer, currency, current.add(other.current),
+                days0To30.add(other.days0To30), days31To60.add(other.days31To60), days61To90.add(other.days61To90),
+                over90Days.add(other.over90Days));
+    }
+}
@@ -0,0 +1,11 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface ReceivablesAgingRepository {
+
+    List<ReceivablesAging> findAllByUserId(UserId userId, LocalDate asOf);
+}
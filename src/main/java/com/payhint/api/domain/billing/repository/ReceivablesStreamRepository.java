@@ -0,0 +1,15 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.util.function.Consumer;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface ReceivablesStreamRepository {
+
+    void forEachOpenReceivable(UserId userId, Consumer<OpenReceivable> action);
+
+    void forEachSettledReceivable(UserId userId, Consumer<SettledReceivable> action);
+
+    void forEachSettledReceivable(CustomerId customerId, Consumer<SettledReceivable> action);
+}
@@ -0,0 +1,14 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDate;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.billing.valueobjects.PaymentId;
+
+public record RecordedPayment(String fingerprint, InvoiceId invoiceId, InstallmentId installmentId,
+        PaymentId paymentId, Money amount, LocalDate paymentDate, PaymentStatus installmentStatus,
+        Money invoiceRemainingAmount) {
+}
@@ -0,0 +1,10 @@
+package com.payhint.api.domain.billing.repository;
+
+import java.time.LocalDate;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+public record SettledReceivable(CustomerId customerId, LocalDate issueDate, LocalDate dueDate, LocalDate paymentDate,
+        Money amount) {
+}
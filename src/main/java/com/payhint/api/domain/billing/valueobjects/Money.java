@@ -1,41 +1,158 @@
 package com.payhint.api.domain.billing.valueobjects;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
 
 import com.payhint.api.domain.billing.exceptions.InvalidMoneyValueException;
 
-public record Money(BigDecimal amount) {
+public record Money(long minorUnits, int scale) {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    public static final int DEFAULT_SCALE = 2;
+    // every amount column is NUMERIC(12,2), so nothing finer than cents can be stored
+    public static final int MAX_SCALE = 2;
+    public static final Money ZERO = new Money(0L, DEFAULT_SCALE);
+
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L };
 
     public Money {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (minorUnits < 0) {
+            throw new InvalidMoneyValueException("Money amount cannot be null or negative");
+        }
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new InvalidMoneyValueException("Money scale must be between 0 and " + MAX_SCALE);
+        }
+    }
+
+    public Money(BigDecimal amount) {
+        this(toMinorUnits(amount, scaleOf(amount)), scaleOf(amount));
+    }
+
+    public static Money of(BigDecimal amount, String currency) {
+        int scale = scaleOf(currency);
+        return new Money(toMinorUnits(amount, scale), scale);
+    }
+
+    public static Money ofMinor(long minorUnits, int scale) {
+        return new Money(minorUnits, scale);
+    }
+
+    public static Money zero(int scale) {
+        return scale == DEFAULT_SCALE ? ZERO : new Money(0L, scale);
+    }
+
+    public static int scaleOf(String currency) {
+        try {
+            int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_SCALE : Math.min(digits, MAX_SCALE);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return DEFAULT_SCALE;
+        }
+    }
+
+    public static long addExact(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new InvalidMoneyValueException("Money amount overflow");
+        }
+    }
+
+    private static int scaleOf(BigDecimal amount) {
+        if (amount == null) {
+            return DEFAULT_SCALE;
+        }
+        int scale = amount.stripTrailingZeros().scale();
+        if (scale > MAX_SCALE) {
+            throw new InvalidMoneyValueException("Money amount cannot have more than " + MAX_SCALE + " decimal places");
+        }
+        return Math.max(scale, DEFAULT_SCALE);
+    }
+
+    private static long toMinorUnits(BigDecimal amount, int scale) {
+        if (amount == null || amount.signum() < 0) {
             throw new InvalidMoneyValueException("Money amount cannot be null or negative");
         }
+        try {
+            return amount.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new InvalidMoneyValueException(
+                    "Money amount " + amount.toPlainString() + " cannot be represented with " + scale + " decimals");
+        }
+    }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    public long toMinorUnits(int targetScale) {
+        if (targetScale == scale) {
+            return minorUnits;
+        }
+        if (targetScale < 0 || targetScale > MAX_SCALE) {
+            throw new InvalidMoneyValueException("Money scale must be between 0 and " + MAX_SCALE);
+        }
+        if (targetScale > scale) {
+            try {
+                return Math.multiplyExact(minorUnits, POWERS_OF_TEN[targetScale - scale]);
+            } catch (ArithmeticException e) {
+                throw new InvalidMoneyValueException("Money amount overflow");
+            }
+        }
+        long divisor = POWERS_OF_TEN[scale - targetScale];
+        if (minorUnits % divisor != 0) {
+            throw new InvalidMoneyValueException(
+                    "Money amount " + amount().toPlainString() + " cannot be represented with " + targetScale
+                            + " decimals");
+        }
+        return minorUnits / divisor;
     }
 
     public Money add(Money other) {
         if (other == null) {
             throw new InvalidMoneyValueException("Cannot add null Money");
         }
-        return new Money(this.amount.add(other.amount));
+        int common = Math.max(scale, other.scale);
+        return new Money(addExact(toMinorUnits(common), other.toMinorUnits(common)), common);
     }
 
     public Money subtract(Money other) {
         if (other == null) {
             throw new InvalidMoneyValueException("Cannot subtract null Money");
         }
-        BigDecimal result = this.amount.subtract(other.amount);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
+        int common = Math.max(scale, other.scale);
+        long result = toMinorUnits(common) - other.toMinorUnits(common);
+        if (result < 0) {
             throw new InvalidMoneyValueException("Cannot subtract: result would be negative");
         }
-        return new Money(result);
+        return new Money(result, common);
     }
 
     public int compareTo(Money other) {
         if (other == null) {
             throw new InvalidMoneyValueException("Cannot compare with null Money");
         }
-        return this.amount.compareTo(other.amount);
+        int common = Math.max(scale, other.scale);
+        return Long.compare(toMinorUnits(common), other.toMinorUnits(common));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && compareTo(money) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long normalized = minorUnits;
+        int normalizedScale = scale;
+        while (normalizedScale > 0 && normalized % 10 == 0) {
+            normalized /= 10;
+            normalizedScale--;
+        }
+        return Long.hashCode(normalized) * 31 + normalizedScale;
     }
 }
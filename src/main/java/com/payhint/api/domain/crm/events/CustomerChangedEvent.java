@@ -0,0 +1,6 @@
+package com.payhint.api.domain.crm.events;
+
+import com.payhint.api.domain.crm.model.Customer;
+
+public record CustomerChangedEvent(Customer customer) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.domain.crm.events;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public record CustomerDeletedEvent(UserId userId, CustomerId customerId) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.domain.crm.events;
+
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public record UserAccountChangedEvent(UserId userId, Email email) {
+}
@@ -21,6 +21,7 @@ public class Customer {
     private Email contactEmail;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public Customer(UserId userId, String companyName, Email contactEmail) {
         if (userId == null) {
@@ -0,0 +1,6 @@
+package com.payhint.api.domain.crm.repository;
+
+import java.time.LocalDateTime;
+
+public record CustomerCollectionVersion(long count, LocalDateTime lastUpdatedAt) {
+}
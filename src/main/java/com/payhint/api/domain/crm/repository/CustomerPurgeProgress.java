@@ -0,0 +1,36 @@
+package com.payhint.api.domain.crm.repository;
+
+import java.time.Instant;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public record CustomerPurgeProgress(CustomerId customerId, UserId userId, Status status, long paymentsDeleted,
+        long installmentsDeleted, long invoicesDeleted, Instant startedAt, Instant finishedAt) {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static CustomerPurgeProgress pending(UserId userId, CustomerId customerId) {
+        return new CustomerPurgeProgress(customerId, userId, Status.PENDING, 0, 0, 0, null, null);
+    }
+
+    public CustomerPurgeProgress started(Instant now) {
+        return new CustomerPurgeProgress(customerId, userId, Status.RUNNING, paymentsDeleted, installmentsDeleted,
+                invoicesDeleted, now, null);
+    }
+
+    public CustomerPurgeProgress plus(long payments, long installments, long invoices) {
+        return new CustomerPurgeProgress(customerId, userId, status, paymentsDeleted + payments,
+                installmentsDeleted + installments, invoicesDeleted + invoices, startedAt, finishedAt);
+    }
+
+    public CustomerPurgeProgress finished(Status finalStatus, Instant now) {
+        return new CustomerPurgeProgress(customerId, userId, finalStatus, paymentsDeleted, installmentsDeleted,
+                invoicesDeleted, startedAt, now);
+    }
+}
@@ -0,0 +1,11 @@
+package com.payhint.api.domain.crm.repository;
+
+import java.util.Optional;
+
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface CustomerPurgeRepository {
+
+    Optional<CustomerPurgeProgress> findProgress(UserId userId, CustomerId customerId);
+}
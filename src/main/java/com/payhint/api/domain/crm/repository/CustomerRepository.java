@@ -1,7 +1,9 @@
 package com.payhint.api.domain.crm.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.valueobjects.CustomerId;
@@ -11,13 +13,31 @@ public interface CustomerRepository {
 
     Customer save(Customer customer);
 
+    List<Customer> saveAll(List<Customer> customers);
+
     Optional<Customer> findById(CustomerId id);
 
+    Optional<Customer> findByIdAndUserId(CustomerId id, UserId userId);
+
+    Optional<Customer> findReadOnlyByIdAndUserId(CustomerId id, UserId userId);
+
+    Optional<CustomerVersion> findVersionByIdAndUserId(CustomerId id, UserId userId);
+
+    CustomerCollectionVersion findCollectionVersion(UserId userId);
+
     List<Customer> findAllByUserId(UserId userId);
 
+    List<Customer> findPageByUserId(UserId userId, String afterCompanyName, CustomerId afterId, int limit);
+
     void delete(Customer customer);
 
+    boolean markDeletedByIdAndUserId(CustomerId id, UserId userId);
+
     boolean existsById(CustomerId id);
 
     boolean existsByUserIdAndCompanyName(UserId userId, String companyName);
+
+    Set<String> findExistingCompanyNames(UserId userId, Collection<String> companyNames);
+
+    Set<String> findDeletedCompanyNames(UserId userId, Collection<String> companyNames);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.payhint.api.domain.crm.repository;
+
+import java.util.List;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+public interface CustomerSearchRepository {
+
+    List<Customer> search(UserId userId, String query, int limit);
+}
@@ -0,0 +1,6 @@
+package com.payhint.api.domain.crm.repository;
+
+import java.time.LocalDateTime;
+
+public record CustomerVersion(long version, LocalDateTime updatedAt) {
+}
@@ -1,6 +1,9 @@
 package com.payhint.api.domain.crm.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.valueobjects.Email;
@@ -10,12 +13,18 @@ public interface UserRepository {
 
     User register(User user);
 
+    List<User> registerAll(List<User> users);
+
+    User save(User user);
+
     Optional<User> findById(UserId userId);
 
     Optional<User> findByEmail(Email email);
 
     boolean existsByEmail(Email email);
 
+    Set<Email> findExistingEmails(Collection<Email> emails);
+
     boolean existsById(UserId userId);
 
     void delete(User user);
@@ -1,7 +1,11 @@
 package com.payhint.api.infrastructure.configuration;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -15,7 +19,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.payhint.api.infrastructure.security.BoundedPasswordEncoder;
 import com.payhint.api.infrastructure.security.JwtAuthenticationFilter;
+import com.payhint.api.infrastructure.security.UserAuthorities;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.DispatcherType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,7 +41,11 @@ public class SecurityConfiguration {
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
                 http.csrf(AbstractHttpConfigurer::disable)
-                                .authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/**").permitAll()
+                                .authorizeHttpRequests(auth -> auth
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                                .requestMatchers("/api/auth/**").permitAll()
+                                                .requestMatchers(HttpMethod.POST, "/api/users/bulk")
+                                                .hasRole(UserAuthorities.ADMIN_ROLE)
                                                 .requestMatchers("/actuator/**").permitAll().requestMatchers("/api/**")
                                                 .authenticated().anyRequest().authenticated())
                                 .sessionManagement(session -> session
@@ -42,15 +56,22 @@ public class SecurityConfiguration {
         }
 
         @Bean
-        public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
+        public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder)
+                        throws Exception {
                 AuthenticationManagerBuilder authenticationManagerBuilder = http
                                 .getSharedObject(AuthenticationManagerBuilder.class);
-                authenticationManagerBuilder.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder());
+                authenticationManagerBuilder.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder);
                 return authenticationManagerBuilder.build();
         }
 
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                        @Value("${application.security.password.bcrypt-strength:10}") int bcryptStrength,
+                        @Value("${application.security.password.hashing-threads:0}") int hashingThreads,
+                        @Value("${application.security.password.hashing-queue-capacity:64}") int queueCapacity,
+                        @Value("${application.security.password.hashing-timeout:PT5S}") Duration timeout) {
+                int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+                return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, queueCapacity,
+                                timeout, meterRegistry);
         }
 }
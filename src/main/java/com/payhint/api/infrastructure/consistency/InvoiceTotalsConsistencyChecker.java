@@ -0,0 +1,73 @@
+package com.payhint.api.infrastructure.consistency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+
+@Component
+public class InvoiceTotalsConsistencyChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceTotalsConsistencyChecker.class);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final InvoiceSpringRepository invoiceSpringRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public InvoiceTotalsConsistencyChecker(InvoiceSpringRepository invoiceSpringRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.consistency.invoice-totals.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.invoiceSpringRepository = invoiceSpringRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${application.consistency.invoice-totals.interval:PT1H}",
+            initialDelayString = "${application.consistency.invoice-totals.interval:PT1H}")
+    public void scheduledCheck() {
+        check();
+    }
+
+    public int check() {
+        int repaired = 0;
+        UUID after = FIRST_ID;
+        List<UUID> chunk;
+        do {
+            UUID from = after;
+            chunk = invoiceSpringRepository.findIdChunkAfter(from, Limit.of(chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<UUID> ids = chunk;
+            repaired += transactionTemplate.execute(status -> repair(ids));
+            after = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == chunkSize);
+        if (repaired > 0) {
+            logger.warn("Repaired running totals of {} invoice(s) that drifted from their installments", repaired);
+        }
+        return repaired;
+    }
+
+    private int repair(List<UUID> ids) {
+        List<UUID> drifted = invoiceSpringRepository.findIdsWithDriftedTotals(ids);
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        logger.warn("Invoice running totals drifted for {}", drifted);
+        return invoiceSpringRepository.recomputeTotals(drifted, LocalDateTime.now());
+    }
+}
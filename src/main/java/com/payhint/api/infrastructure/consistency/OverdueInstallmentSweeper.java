@@ -0,0 +1,92 @@
+package com.payhint.api.infrastructure.consistency;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.OverdueInstallmentView;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class OverdueInstallmentSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueInstallmentSweeper.class);
+    private static final String METRIC_PREFIX = "billing.installments.overdue-sweep";
+    private static final List<PaymentStatus> OPEN_STATUSES = List.of(PaymentStatus.PENDING,
+            PaymentStatus.PARTIALLY_PAID);
+
+    private final InstallmentSpringRepository installmentSpringRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Timer duration;
+    private final Counter markedLate;
+
+    public OverdueInstallmentSweeper(InstallmentSpringRepository installmentSpringRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${application.consistency.overdue-installments.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.installmentSpringRepository = installmentSpringRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.duration = Timer.builder(METRIC_PREFIX + ".duration").register(meterRegistry);
+        this.markedLate = Counter.builder(METRIC_PREFIX + ".marked-late").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.consistency.overdue-installments.interval:PT15M}",
+            initialDelayString = "${application.consistency.overdue-installments.interval:PT15M}")
+    public void scheduledSweep() {
+        sweep();
+    }
+
+    public int sweep() {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        int scanned = 0;
+        int marked = 0;
+        for (PaymentStatus open : OPEN_STATUSES) {
+            // one status at a time keeps the (status, due_date) index ordered for the keyset walk
+            OverdueInstallmentView last = null;
+            List<OverdueInstallmentView> chunk;
+            do {
+                chunk = last == null
+                        ? installmentSpringRepository.findFirstOverduePage(open, today, Limit.of(chunkSize))
+                        : installmentSpringRepository.findOverduePageAfter(open, today, last.dueDate(), last.id(),
+                                Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<UUID> ids = chunk.stream().map(OverdueInstallmentView::id).toList();
+                // the UPDATE re-checks the predicate, so rows already swept by another node are skipped
+                marked += transactionTemplate.execute(status -> installmentSpringRepository.markLate(ids, today));
+                scanned += chunk.size();
+                last = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == chunkSize);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        duration.record(elapsed, TimeUnit.NANOSECONDS);
+        markedLate.increment(marked);
+        if (scanned > 0) {
+            logger.info("Marked {} of {} overdue installment(s) LATE in {} ms", marked, scanned,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return marked;
+    }
+}
@@ -0,0 +1,53 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.billing.repository.CustomerBalance;
+import com.payhint.api.domain.billing.repository.CustomerBalanceRepository;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.CustomerBalanceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.CustomerBalanceView;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomerBalanceJpaRepositoryAdapter implements CustomerBalanceRepository {
+
+    private final CustomerBalanceSpringRepository customerBalanceSpringRepository;
+
+    @Override
+    @Transactional
+    public List<CustomerBalance> findAllByUserIdAndCustomerIds(UserId userId, Collection<CustomerId> customerIds) {
+        if (customerIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = customerIds.stream().map(CustomerId::value).distinct().toList();
+        // overdue figures are only maintained for the day they were computed on; roll stale rows forward first
+        customerBalanceSpringRepository.refreshStaleOverdue(ids, LocalDate.now());
+        return customerBalanceSpringRepository.findViewsByUserIdAndCustomerIds(userId.value(), ids).stream()
+                .map(CustomerBalanceJpaRepositoryAdapter::toDomain).toList();
+    }
+
+    private static CustomerBalance toDomain(CustomerBalanceView view) {
+        CustomerId customerId = new CustomerId(view.customerId());
+        if (view.totalInvoiced() == null) {
+            return CustomerBalance.empty(customerId);
+        }
+        return new CustomerBalance(customerId, money(view.totalInvoiced()), money(view.totalPaid()),
+                money(view.overdueAmount()), view.overdueInstallmentCount(), view.lastPaymentDate());
+    }
+
+    private static Money money(BigDecimal amount) {
+        return new Money(amount.signum() < 0 ? BigDecimal.ZERO : amount);
+    }
+}
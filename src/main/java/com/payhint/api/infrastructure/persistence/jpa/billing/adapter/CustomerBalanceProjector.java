@@ -0,0 +1,81 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.CustomerBalanceSpringRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerBalanceProjector {
+
+    private final CustomerBalanceSpringRepository customerBalanceSpringRepository;
+
+    public record OverdueShare(BigDecimal amount, int count) {
+
+        public static final OverdueShare NONE = new OverdueShare(BigDecimal.ZERO, 0);
+    }
+
+    public OverdueShare overdueShare(InstallmentJpaEntity installment) {
+        boolean open = installment.getStatus() == PaymentStatus.PENDING
+                || installment.getStatus() == PaymentStatus.PARTIALLY_PAID
+                || installment.getStatus() == PaymentStatus.LATE;
+        if (!open || !installment.getDueDate().isBefore(LocalDate.now())) {
+            return OverdueShare.NONE;
+        }
+        return new OverdueShare(installment.getAmountDue().subtract(installment.getAmountPaid()), 1);
+    }
+
+    public void invoiceSaved(UUID customerId, BigDecimal previousTotal, BigDecimal newTotal) {
+        BigDecimal delta = newTotal.subtract(previousTotal == null ? BigDecimal.ZERO : previousTotal);
+        if (delta.signum() != 0) {
+            apply(customerId, delta, BigDecimal.ZERO, OverdueShare.NONE, OverdueShare.NONE);
+        }
+    }
+
+    public void installmentSaved(UUID customerId, OverdueShare before, OverdueShare after) {
+        if (before.amount().compareTo(after.amount()) != 0 || before.count() != after.count()) {
+            apply(customerId, BigDecimal.ZERO, BigDecimal.ZERO, before, after);
+        }
+    }
+
+    public void paymentSaved(UUID customerId, BigDecimal previousAmount, LocalDate previousDate, BigDecimal newAmount,
+            LocalDate newDate) {
+        if (previousDate != null && !previousDate.equals(newDate)) {
+            // the latest payment date may have moved backwards, which a delta cannot express
+            refresh(customerId);
+            return;
+        }
+        BigDecimal delta = newAmount.subtract(previousAmount == null ? BigDecimal.ZERO : previousAmount);
+        apply(customerId, BigDecimal.ZERO, delta, OverdueShare.NONE, OverdueShare.NONE);
+        customerBalanceSpringRepository.advanceLastPaymentDate(customerId, newDate);
+    }
+
+    public void refresh(UUID customerId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        customerBalanceSpringRepository.insertIfAbsent(customerId, today, now);
+        customerBalanceSpringRepository.recompute(customerId, today, now);
+    }
+
+    private void apply(UUID customerId, BigDecimal invoiced, BigDecimal paid, OverdueShare before,
+            OverdueShare after) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        if (customerBalanceSpringRepository.insertIfAbsent(customerId, today, now) > 0) {
+            // first write for this customer: seed the row from the current state instead of a partial delta
+            customerBalanceSpringRepository.recompute(customerId, today, now);
+            return;
+        }
+        customerBalanceSpringRepository.applyDelta(customerId, invoiced, paid, after.amount().subtract(before.amount()),
+                after.count() - before.count(), today, now);
+    }
+}
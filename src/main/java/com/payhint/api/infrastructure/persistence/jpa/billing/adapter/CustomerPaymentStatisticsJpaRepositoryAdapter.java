@@ -0,0 +1,78 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.domain.billing.model.CustomerPaymentStatistics;
+import com.payhint.api.domain.billing.repository.CustomerPaymentStatisticsRepository;
+import com.payhint.api.domain.billing.repository.ReceivablesStreamRepository;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.CustomerPaymentStatisticsJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.CustomerPaymentStatisticsSpringRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomerPaymentStatisticsJpaRepositoryAdapter implements CustomerPaymentStatisticsRepository {
+
+    private final CustomerPaymentStatisticsSpringRepository customerPaymentStatisticsSpringRepository;
+    private final ReceivablesStreamRepository receivablesStreamRepository;
+
+    @Override
+    public CustomerPaymentStatistics findByCustomerId(CustomerId customerId) {
+        return customerPaymentStatisticsSpringRepository.findById(customerId.value())
+                .map(CustomerPaymentStatisticsJpaRepositoryAdapter::toDomain).orElseGet(() -> replay(customerId));
+    }
+
+    @Override
+    public CustomerPaymentStatistics save(CustomerPaymentStatistics statistics) {
+        UUID customerId = statistics.getCustomerId().value();
+        if (statistics.getVersion() == null
+                && customerPaymentStatisticsSpringRepository.insertIfAbsent(customerId, LocalDateTime.now()) == 0) {
+            // a concurrent payment created the row first; a retry folds this payment into its state instead
+            throw new ObjectOptimisticLockingFailureException(CustomerPaymentStatisticsJpaEntity.class, customerId);
+        }
+        CustomerPaymentStatisticsJpaEntity entity = customerPaymentStatisticsSpringRepository.findById(customerId)
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(
+                        CustomerPaymentStatisticsJpaEntity.class, customerId));
+        if (statistics.getVersion() != null && !statistics.getVersion().equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CustomerPaymentStatisticsJpaEntity.class, customerId);
+        }
+        entity.setPaymentCount(statistics.getPaymentCount());
+        entity.setOnTimeCount(statistics.getOnTimeCount());
+        entity.setMeanDaysLate(statistics.getMeanDaysLate());
+        entity.setDaysLateSquaredDeviations(statistics.getDaysLateSquaredDeviations());
+        entity.setMedianMarkerHeights(statistics.getMedianMarkerHeights().clone());
+        entity.setMedianMarkerPositions(statistics.getMedianMarkerPositions().clone());
+        entity.setCollectedWeight(statistics.getCollectedWeight());
+        entity.setDaysSalesOutstanding(statistics.getDaysSalesOutstanding());
+        return toDomain(customerPaymentStatisticsSpringRepository.saveAndFlush(entity));
+    }
+
+    private CustomerPaymentStatistics replay(CustomerId customerId) {
+        // no row yet: seed once from payments recorded before statistics were kept for this customer
+        CustomerPaymentStatistics statistics = new CustomerPaymentStatistics(customerId);
+        receivablesStreamRepository.forEachSettledReceivable(customerId, settled -> statistics
+                .record(settled.issueDate(), settled.dueDate(), settled.paymentDate(), settled.amount()));
+        return statistics;
+    }
+
+    private static CustomerPaymentStatistics toDomain(CustomerPaymentStatisticsJpaEntity entity) {
+        double[] heights = entity.getMedianMarkerHeights() == null
+                ? new double[CustomerPaymentStatistics.MEDIAN_MARKERS]
+                : entity.getMedianMarkerHeights().clone();
+        long[] positions = entity.getMedianMarkerPositions() == null
+                ? new long[CustomerPaymentStatistics.MEDIAN_MARKERS]
+                : entity.getMedianMarkerPositions().clone();
+        return CustomerPaymentStatistics.builder().customerId(new CustomerId(entity.getCustomerId()))
+                .paymentCount(entity.getPaymentCount()).onTimeCount(entity.getOnTimeCount())
+                .meanDaysLate(entity.getMeanDaysLate()).daysLateSquaredDeviations(entity.getDaysLateSquaredDeviations())
+                .medianMarkerHeights(heights).medianMarkerPositions(positions)
+                .collectedWeight(entity.getCollectedWeight()).daysSalesOutstanding(entity.getDaysSalesOutstanding())
+                .version(entity.getVersion()).build();
+    }
+}
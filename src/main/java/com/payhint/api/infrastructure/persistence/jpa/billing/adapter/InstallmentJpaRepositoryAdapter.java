@@ -1,18 +1,26 @@
 package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import com.payhint.api.domain.billing.events.ReceivablesChangedEvent;
 import com.payhint.api.domain.billing.model.Installment;
 import com.payhint.api.domain.billing.model.PaymentStatus;
 import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.adapter.CustomerBalanceProjector.OverdueShare;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
 import com.payhint.api.infrastructure.persistence.jpa.billing.mapper.InstallmentPersistenceMapper;
 import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,12 +29,60 @@ import lombok.RequiredArgsConstructor;
 public class InstallmentJpaRepositoryAdapter implements InstallmentRepository {
 
     private final InstallmentSpringRepository springDataInstallmentRepository;
+    private final InvoiceSpringRepository springDataInvoiceRepository;
     private final InstallmentPersistenceMapper mapper;
+    private final CustomerBalanceProjector customerBalanceProjector;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Installment save(Installment installment) {
-        var entity = mapper.toEntity(installment);
-        var savedEntity = springDataInstallmentRepository.save(entity);
+        InstallmentJpaEntity existing = installment.getId() == null ? null
+                : springDataInstallmentRepository.findById(installment.getId().value()).orElse(null);
+        OverdueShare before = existing == null ? OverdueShare.NONE : customerBalanceProjector.overdueShare(existing);
+        InstallmentJpaEntity entity;
+        if (existing == null) {
+            entity = mapper.toEntity(installment);
+            entity.setInvoice(springDataInvoiceRepository.getReferenceById(installment.getInvoiceId().value()));
+            if (Hibernate.isInitialized(entity.getInvoice())
+                    && Hibernate.isInitialized(entity.getInvoice().getInstallments())) {
+                entity.getInvoice().getInstallments().add(entity);
+            }
+        } else {
+            if (installment.getVersion() != null && !installment.getVersion().equals(existing.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(InstallmentJpaEntity.class, existing.getId());
+            }
+            mapper.updateEntity(installment, existing);
+            entity = existing;
+        }
+        var savedEntity = springDataInstallmentRepository.saveAndFlush(entity);
+        OverdueShare after = customerBalanceProjector.overdueShare(savedEntity);
+        springDataInvoiceRepository.findCustomerIdById(installment.getInvoiceId().value())
+                .ifPresent(customerId -> {
+                    customerBalanceProjector.installmentSaved(customerId, before, after);
+                    publishReceivablesChanged(customerId);
+                });
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Installment applyPayment(Installment installment, Money amount) {
+        UUID id = installment.getId().value();
+        InstallmentJpaEntity existing = springDataInstallmentRepository.findById(id)
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(InstallmentJpaEntity.class, id));
+        OverdueShare before = customerBalanceProjector.overdueShare(existing);
+        // guarded in SQL so a writer on another node cannot push amount_paid past amount_due
+        if (springDataInstallmentRepository.applyPayment(id, installment.getVersion(), amount.amount(),
+                installment.getStatus()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(InstallmentJpaEntity.class, id);
+        }
+        InstallmentJpaEntity savedEntity = springDataInstallmentRepository.findById(id)
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(InstallmentJpaEntity.class, id));
+        OverdueShare after = customerBalanceProjector.overdueShare(savedEntity);
+        springDataInvoiceRepository.findCustomerIdById(installment.getInvoiceId().value())
+                .ifPresent(customerId -> {
+                    customerBalanceProjector.installmentSaved(customerId, before, after);
+                    publishReceivablesChanged(customerId);
+                });
         return mapper.toDomain(savedEntity);
     }
 
@@ -47,19 +103,21 @@ public class InstallmentJpaRepositoryAdapter implements InstallmentRepository {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public List<Installment> findOverdueInstallments(LocalDate currentDate) {
-        return springDataInstallmentRepository.findOverdueInstallments(currentDate).stream().map(mapper::toDomain)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public void deleteById(UUID id) {
+        Optional<UUID> customerId = springDataInstallmentRepository.findCustomerIdById(id);
         springDataInstallmentRepository.deleteById(id);
+        springDataInstallmentRepository.flush();
+        customerId.ifPresent(customerBalanceProjector::refresh);
+        customerId.ifPresent(this::publishReceivablesChanged);
     }
 
     @Override
     public boolean existsByIdAndInvoiceId(UUID id, UUID invoiceId) {
         return springDataInstallmentRepository.existsByIdAndInvoiceId(id, invoiceId);
     }
+
+    private void publishReceivablesChanged(UUID customerId) {
+        eventPublisher.publishEvent(new ReceivablesChangedEvent(new CustomerId(customerId)));
+    }
 }
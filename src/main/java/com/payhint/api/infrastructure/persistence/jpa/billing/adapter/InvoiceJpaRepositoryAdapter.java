@@ -1,16 +1,28 @@
 package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import com.payhint.api.domain.billing.events.ReceivablesChangedEvent;
 import com.payhint.api.domain.billing.model.Invoice;
 import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.repository.InvoiceVersion;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
 import com.payhint.api.infrastructure.persistence.jpa.billing.mapper.InvoicePersistenceMapper;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
 import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,12 +31,35 @@ import lombok.RequiredArgsConstructor;
 public class InvoiceJpaRepositoryAdapter implements InvoiceRepository {
 
     private final InvoiceSpringRepository springDataInvoiceRepository;
+    private final InstallmentSpringRepository springDataInstallmentRepository;
+    private final CustomerSpringRepository springDataCustomerRepository;
     private final InvoicePersistenceMapper mapper;
+    private final CustomerBalanceProjector customerBalanceProjector;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Invoice save(Invoice invoice) {
-        var entity = mapper.toEntity(invoice);
-        var savedEntity = springDataInvoiceRepository.save(entity);
+        InvoiceJpaEntity existing = invoice.getId() == null ? null
+                : springDataInvoiceRepository.findById(invoice.getId().value()).orElse(null);
+        BigDecimal previousTotal = null;
+        InvoiceJpaEntity entity;
+        if (existing == null) {
+            entity = mapper.toEntity(invoice);
+            entity.setCustomer(springDataCustomerRepository.getReferenceById(invoice.getCustomerId().value()));
+        } else {
+            if (invoice.getVersion() != null && !invoice.getVersion().equals(existing.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(InvoiceJpaEntity.class, existing.getId());
+            }
+            previousTotal = existing.getTotalAmount();
+            mapper.updateEntity(invoice, existing);
+            // saving the aggregate always bumps its version, so changes to installments invalidate ETags too
+            existing.setUpdatedAt(LocalDateTime.now());
+            entity = existing;
+        }
+        var savedEntity = springDataInvoiceRepository.saveAndFlush(entity);
+        customerBalanceProjector.invoiceSaved(invoice.getCustomerId().value(), previousTotal,
+                savedEntity.getTotalAmount());
+        eventPublisher.publishEvent(new ReceivablesChangedEvent(invoice.getCustomerId()));
         return mapper.toDomain(savedEntity);
     }
 
@@ -45,8 +80,51 @@ public class InvoiceJpaRepositoryAdapter implements InvoiceRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Invoice> findAggregateByIdAndUserId(InvoiceId id, UserId userId) {
+        Optional<InvoiceJpaEntity> invoice = springDataInvoiceRepository.findWithInstallmentsByIdAndUserId(id.value(),
+                userId.value());
+        invoice.ifPresent(entity -> fetchPayments(List.of(entity)));
+        return invoice.map(mapper::toAggregate);
+    }
+
+    @Override
+    public List<Invoice> findAggregatesByCustomerIdAndUserId(CustomerId customerId, UserId userId) {
+        List<InvoiceJpaEntity> invoices = springDataInvoiceRepository
+                .findAllWithInstallmentsByCustomerIdAndUserId(customerId.value(), userId.value());
+        fetchPayments(invoices);
+        return invoices.stream().map(mapper::toAggregate).toList();
+    }
+
+    private void fetchPayments(List<InvoiceJpaEntity> invoices) {
+        List<UUID> invoiceIds = invoices.stream().filter(invoice -> !invoice.getInstallments().isEmpty())
+                .map(InvoiceJpaEntity::getId).toList();
+        if (!invoiceIds.isEmpty()) {
+            // initialises the payments of the installments already in the persistence context in one statement
+            springDataInstallmentRepository.fetchPaymentsByInvoiceIds(invoiceIds);
+        }
+    }
+
+    @Override
+    public Optional<InvoiceVersion> findVersionByIdAndUserId(InvoiceId id, UserId userId) {
+        return springDataInvoiceRepository.findVersionByIdAndUserId(id.value(), userId.value());
+    }
+
+    @Override
+    public boolean existsById(InvoiceId id) {
+        return springDataInvoiceRepository.existsById(id.value());
+    }
+
     @Override
     public void deleteById(UUID id) {
+        Optional<UUID> customerId = springDataInvoiceRepository.findCustomerIdById(id);
         springDataInvoiceRepository.deleteById(id);
+        springDataInvoiceRepository.flush();
+        customerId.ifPresent(customerBalanceProjector::refresh);
+        customerId.ifPresent(this::publishReceivablesChanged);
+    }
+
+    private void publishReceivablesChanged(UUID customerId) {
+        eventPublisher.publishEvent(new ReceivablesChangedEvent(new CustomerId(customerId)));
     }
 }
@@ -0,0 +1,142 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.payhint.api.domain.billing.repository.PaymentIdempotencyRepository;
+import com.payhint.api.domain.billing.repository.RecordedPayment;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.billing.valueobjects.PaymentId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentIdempotencyKeyJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentIdempotencyKeySpringRepository;
+
+@Component
+public class PaymentIdempotencyJpaRepositoryAdapter implements PaymentIdempotencyRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentIdempotencyJpaRepositoryAdapter.class);
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private record Key(UUID userId, String idempotencyKey) {
+    }
+
+    private record Entry(RecordedPayment recordedPayment, LocalDateTime expiresAt) {
+    }
+
+    private final PaymentIdempotencyKeySpringRepository springDataRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Cache<Key, Entry> recent;
+
+    public PaymentIdempotencyJpaRepositoryAdapter(PaymentIdempotencyKeySpringRepository springDataRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.idempotency.payments.ttl:PT24H}") Duration ttl,
+            @Value("${application.idempotency.payments.cache-size:10000}") long cacheSize) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.springDataRepository = springDataRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.recent = Caffeine.newBuilder().maximumSize(cacheSize).expireAfter(new Expiry<Key, Entry>() {
+            @Override
+            public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                return Math.max(0L, Duration.between(LocalDateTime.now(), entry.expiresAt()).toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, entry, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        }).build();
+    }
+
+    @Override
+    public Optional<RecordedPayment> findByUserIdAndKey(UserId userId, String idempotencyKey) {
+        Key key = new Key(userId.value(), idempotencyKey);
+        Entry cached = recent.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached.recordedPayment());
+        }
+        return springDataRepository
+                .findByUserIdAndIdempotencyKeyAndExpiresAtAfter(userId.value(), idempotencyKey, LocalDateTime.now())
+                .map(entity -> {
+                    Entry entry = new Entry(toDomain(entity), entity.getExpiresAt());
+                    recent.put(key, entry);
+                    return entry.recordedPayment();
+                });
+    }
+
+    @Override
+    public void save(UserId userId, String idempotencyKey, RecordedPayment recordedPayment) {
+        LocalDateTime now = LocalDateTime.now();
+        springDataRepository.deleteExpiredByUserIdAndIdempotencyKey(userId.value(), idempotencyKey, now);
+        PaymentIdempotencyKeyJpaEntity entity = springDataRepository.saveAndFlush(PaymentIdempotencyKeyJpaEntity
+                .builder().userId(userId.value()).idempotencyKey(idempotencyKey)
+                .fingerprint(recordedPayment.fingerprint()).invoiceId(recordedPayment.invoiceId().value())
+                .installmentId(recordedPayment.installmentId().value()).paymentId(recordedPayment.paymentId().value())
+                .amount(recordedPayment.amount().amount()).paymentDate(recordedPayment.paymentDate())
+                .installmentStatus(recordedPayment.installmentStatus())
+                .invoiceRemainingAmount(recordedPayment.invoiceRemainingAmount().amount()).createdAt(now)
+                .expiresAt(now.plus(ttl)).build());
+
+        Key key = new Key(userId.value(), idempotencyKey);
+        Entry entry = new Entry(recordedPayment, entity.getExpiresAt());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // only committed keys may short-circuit later requests
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recent.put(key, entry);
+                }
+            });
+        } else {
+            recent.put(key, entry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.idempotency.payments.purge-interval:PT1H}",
+            initialDelayString = "${application.idempotency.payments.purge-interval:PT1H}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate
+                    .execute(status -> springDataRepository.deleteExpiredChunk(now, PURGE_CHUNK_SIZE));
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+        if (purged > 0) {
+            logger.info("Purged {} expired payment idempotency keys", purged);
+        }
+    }
+
+    private static RecordedPayment toDomain(PaymentIdempotencyKeyJpaEntity entity) {
+        return new RecordedPayment(entity.getFingerprint(), new InvoiceId(entity.getInvoiceId()),
+                new InstallmentId(entity.getInstallmentId()), new PaymentId(entity.getPaymentId()),
+                new Money(entity.getAmount()), entity.getPaymentDate(), entity.getInstallmentStatus(),
+                new Money(entity.getInvoiceRemainingAmount()));
+    }
+}
@@ -1,15 +1,23 @@
 package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import com.payhint.api.domain.billing.events.ReceivablesChangedEvent;
 import com.payhint.api.domain.billing.model.Payment;
 import com.payhint.api.domain.billing.repository.PaymentRepository;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentJpaEntity;
 import com.payhint.api.infrastructure.persistence.jpa.billing.mapper.PaymentPersistenceMapper;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
 import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentSpringRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,12 +27,41 @@ import lombok.RequiredArgsConstructor;
 public class PaymentJpaRepositoryAdapter implements PaymentRepository {
 
     private final PaymentSpringRepository springDataPaymentRepository;
+    private final InstallmentSpringRepository springDataInstallmentRepository;
     private final PaymentPersistenceMapper mapper;
+    private final CustomerBalanceProjector customerBalanceProjector;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Payment save(Payment payment) {
-        var entity = mapper.toEntity(payment);
-        var savedEntity = springDataPaymentRepository.save(entity);
+        PaymentJpaEntity existing = payment.getId() == null ? null
+                : springDataPaymentRepository.findById(payment.getId().value()).orElse(null);
+        BigDecimal previousAmount = null;
+        LocalDate previousDate = null;
+        PaymentJpaEntity entity;
+        if (existing == null) {
+            entity = mapper.toEntity(payment);
+            entity.setInstallment(
+                    springDataInstallmentRepository.getReferenceById(payment.getInstallmentId().value()));
+            if (Hibernate.isInitialized(entity.getInstallment())
+                    && Hibernate.isInitialized(entity.getInstallment().getPayments())) {
+                entity.getInstallment().getPayments().add(entity);
+            }
+        } else {
+            previousAmount = existing.getAmount();
+            previousDate = existing.getPaymentDate();
+            mapper.updateEntity(payment, existing);
+            entity = existing;
+        }
+        var savedEntity = springDataPaymentRepository.saveAndFlush(entity);
+        BigDecimal amountBefore = previousAmount;
+        LocalDate dateBefore = previousDate;
+        springDataInstallmentRepository.findCustomerIdById(payment.getInstallmentId().value())
+                .ifPresent(customerId -> {
+                    customerBalanceProjector.paymentSaved(customerId, amountBefore, dateBefore,
+                            savedEntity.getAmount(), savedEntity.getPaymentDate());
+                    publishReceivablesChanged(customerId);
+                });
         return mapper.toDomain(savedEntity);
     }
 
@@ -41,6 +78,15 @@ public class PaymentJpaRepositoryAdapter implements PaymentRepository {
 
     @Override
     public void deleteById(UUID id) {
+        Optional<UUID> customerId = springDataPaymentRepository.findById(id).flatMap(
+                payment -> springDataInstallmentRepository.findCustomerIdById(payment.getInstallment().getId()));
         springDataPaymentRepository.deleteById(id);
+        springDataPaymentRepository.flush();
+        customerId.ifPresent(customerBalanceProjector::refresh);
+        customerId.ifPresent(this::publishReceivablesChanged);
+    }
+
+    private void publishReceivablesChanged(UUID customerId) {
+        eventPublisher.publishEvent(new ReceivablesChangedEvent(new CustomerId(customerId)));
     }
 }
@@ -0,0 +1,92 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.domain.billing.events.ReceivablesChangedEvent;
+import com.payhint.api.domain.billing.repository.ReceivablesAging;
+import com.payhint.api.domain.billing.repository.ReceivablesAgingRepository;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.events.CustomerDeletedEvent;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.ReceivablesAgingView;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+
+@Repository
+public class ReceivablesAgingJpaRepositoryAdapter implements ReceivablesAgingRepository {
+
+    private record Entry(LocalDate asOf, List<ReceivablesAging> rows) {
+    }
+
+    private final InstallmentSpringRepository installmentSpringRepository;
+    private final CustomerSpringRepository customerSpringRepository;
+    private final Cache<UUID, Entry> reports;
+    private final Cache<UUID, UUID> owners;
+
+    public ReceivablesAgingJpaRepositoryAdapter(InstallmentSpringRepository installmentSpringRepository,
+            CustomerSpringRepository customerSpringRepository,
+            @Value("${application.reports.aging.cache-size:1000}") long cacheSize,
+            @Value("${application.reports.aging.cache-ttl:PT10M}") Duration cacheTtl) {
+        this.installmentSpringRepository = installmentSpringRepository;
+        this.customerSpringRepository = customerSpringRepository;
+        // the TTL bounds staleness from writes made on other nodes, which never reach these listeners
+        this.reports = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(cacheTtl).build();
+        this.owners = Caffeine.newBuilder().maximumSize(cacheSize * 10).build();
+    }
+
+    @Override
+    public List<ReceivablesAging> findAllByUserId(UserId userId, LocalDate asOf) {
+        Entry entry = reports.get(userId.value(), id -> load(id, asOf));
+        if (!entry.asOf().equals(asOf)) {
+            reports.invalidate(userId.value());
+            entry = reports.get(userId.value(), id -> load(id, asOf));
+        }
+        return entry.rows();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReceivablesChanged(ReceivablesChangedEvent event) {
+        if (reports.estimatedSize() == 0) {
+            return;
+        }
+        UUID ownerId = owners.get(event.customerId().value(),
+                id -> customerSpringRepository.findOwnerIdById(id).orElse(null));
+        if (ownerId != null) {
+            reports.invalidate(ownerId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerDeleted(CustomerDeletedEvent event) {
+        reports.invalidate(event.userId().value());
+        owners.invalidate(event.customerId().value());
+    }
+
+    private Entry load(UUID userId, LocalDate asOf) {
+        List<ReceivablesAging> rows = installmentSpringRepository
+                .aggregateAgingByUserId(userId, asOf, asOf.minusDays(30), asOf.minusDays(60), asOf.minusDays(90))
+                .stream().map(ReceivablesAgingJpaRepositoryAdapter::toDomain).toList();
+        return new Entry(asOf, rows);
+    }
+
+    private static ReceivablesAging toDomain(ReceivablesAgingView view) {
+        return new ReceivablesAging(new CustomerId(view.customerId()), view.currency(), money(view.current()),
+                money(view.days0To30()), money(view.days31To60()), money(view.days61To90()),
+                money(view.over90Days()));
+    }
+
+    private static Money money(BigDecimal amount) {
+        return amount == null || amount.signum() <= 0 ? Money.ZERO : new Money(amount);
+    }
+}
@@ -0,0 +1,82 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.adapter;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.billing.repository.OpenReceivable;
+import com.payhint.api.domain.billing.repository.ReceivablesStreamRepository;
+import com.payhint.api.domain.billing.repository.SettledReceivable;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.OpenReceivableView;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.SettledReceivableView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+@Repository
+public class ReceivablesStreamJpaRepositoryAdapter implements ReceivablesStreamRepository {
+
+    private static final String PACKAGE = "com.payhint.api.infrastructure.persistence.jpa.billing.repository.";
+    private static final String SETTLED_RECEIVABLES = "SELECT new " + PACKAGE
+            + "SettledReceivableView(c.id, v.createdAt, i.dueDate, p.paymentDate, p.amount) "
+            + "FROM PaymentJpaEntity p JOIN p.installment i JOIN i.invoice v JOIN v.customer c ";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ReceivablesStreamJpaRepositoryAdapter(EntityManager entityManager,
+            @Value("${application.reports.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOpenReceivable(UserId userId, Consumer<OpenReceivable> action) {
+        TypedQuery<OpenReceivableView> query = entityManager.createQuery("SELECT new " + PACKAGE
+                + "OpenReceivableView(c.id, v.currency, i.dueDate, i.amountDue - i.amountPaid) "
+                + "FROM InstallmentJpaEntity i JOIN i.invoice v JOIN v.customer c WHERE c.user.id = :userId "
+                + "AND i.amountPaid < i.amountDue AND i.status IN ('PENDING', 'PARTIALLY_PAID', 'LATE')",
+                OpenReceivableView.class).setParameter("userId", userId.value());
+        stream(query, view -> action.accept(new OpenReceivable(new CustomerId(view.customerId()), view.currency(),
+                view.dueDate(), new Money(view.remaining()))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSettledReceivable(UserId userId, Consumer<SettledReceivable> action) {
+        TypedQuery<SettledReceivableView> query = entityManager
+                .createQuery(SETTLED_RECEIVABLES + "WHERE c.user.id = :userId", SettledReceivableView.class)
+                .setParameter("userId", userId.value());
+        stream(query, view -> action.accept(toSettledReceivable(view)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachSettledReceivable(CustomerId customerId, Consumer<SettledReceivable> action) {
+        TypedQuery<SettledReceivableView> query = entityManager
+                .createQuery(SETTLED_RECEIVABLES + "WHERE c.id = :customerId ORDER BY p.paymentDate, p.createdAt",
+                        SettledReceivableView.class)
+                .setParameter("customerId", customerId.value());
+        stream(query, view -> action.accept(toSettledReceivable(view)));
+    }
+
+    private static SettledReceivable toSettledReceivable(SettledReceivableView view) {
+        return new SettledReceivable(new CustomerId(view.customerId()), view.issuedAt().toLocalDate(),
+                view.dueDate(), view.paymentDate(), new Money(view.amount()));
+    }
+
+    private <T> void stream(TypedQuery<T> query, Consumer<T> action) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<T> rows = query.getResultStream()) {
+            rows.forEach(action);
+        }
+    }
+}
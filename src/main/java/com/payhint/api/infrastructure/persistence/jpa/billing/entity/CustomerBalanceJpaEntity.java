@@ -0,0 +1,60 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "customer_balances")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBalanceJpaEntity {
+
+    @Id
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CustomerJpaEntity customer;
+
+    @Column(name = "total_invoiced", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalInvoiced = BigDecimal.ZERO;
+
+    @Column(name = "total_paid", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "overdue_amount", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal overdueAmount = BigDecimal.ZERO;
+
+    @Column(name = "overdue_installment_count", nullable = false)
+    private int overdueInstallmentCount;
+
+    @Column(name = "last_payment_date")
+    private LocalDate lastPaymentDate;
+
+    @Column(name = "overdue_as_of", nullable = false)
+    private LocalDate overdueAsOf;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
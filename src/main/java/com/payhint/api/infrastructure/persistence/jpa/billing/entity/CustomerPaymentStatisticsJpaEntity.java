@@ -0,0 +1,74 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.type.SqlTypes;
+
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "customer_payment_statistics")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPaymentStatisticsJpaEntity {
+
+    @Id
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private CustomerJpaEntity customer;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "on_time_count", nullable = false)
+    private long onTimeCount;
+
+    @Column(name = "mean_days_late", nullable = false)
+    private double meanDaysLate;
+
+    @Column(name = "days_late_squared_deviations", nullable = false)
+    private double daysLateSquaredDeviations;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "median_marker_heights")
+    private double[] medianMarkerHeights;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "median_marker_positions")
+    private long[] medianMarkerPositions;
+
+    @Column(name = "collected_weight", nullable = false)
+    private double collectedWeight;
+
+    @Column(name = "days_sales_outstanding", nullable = false)
+    private double daysSalesOutstanding;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
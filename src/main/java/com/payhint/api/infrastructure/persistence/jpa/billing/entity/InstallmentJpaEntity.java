@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import com.payhint.api.domain.billing.model.PaymentStatus;
 
 import jakarta.persistence.*;
@@ -28,6 +32,7 @@ public class InstallmentJpaEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "invoice_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private InvoiceJpaEntity invoice;
 
     @Column(name = "amount_due", nullable = false, precision = 12, scale = 2)
@@ -45,7 +50,13 @@ public class InstallmentJpaEntity {
     @Builder.Default
     private PaymentStatus status = PaymentStatus.PENDING;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "installment", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("paymentDate ASC, id ASC")
+    @BatchSize(size = 50)
     @Builder.Default
     private List<PaymentJpaEntity> payments = new ArrayList<>();
 }
@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
 
 import jakarta.persistence.*;
@@ -28,6 +32,7 @@ public class InvoiceJpaEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private CustomerJpaEntity customer;
 
     @Column(name = "invoice_reference", nullable = false)
@@ -36,6 +41,14 @@ public class InvoiceJpaEntity {
     @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
     private BigDecimal totalAmount;
 
+    @Column(name = "total_paid", nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "total_scheduled", nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal totalScheduled = BigDecimal.ZERO;
+
     @Column(nullable = false, length = 10)
     private String currency;
 
@@ -45,7 +58,13 @@ public class InvoiceJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "invoice", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("dueDate ASC, id ASC")
+    @BatchSize(size = 50)
     @Builder.Default
     private List<InstallmentJpaEntity> installments = new ArrayList<>();
 
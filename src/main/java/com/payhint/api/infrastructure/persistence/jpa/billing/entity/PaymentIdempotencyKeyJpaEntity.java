@@ -0,0 +1,65 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "payment_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "idempotency_key" }))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentIdempotencyKeyJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64, updatable = false)
+    private String fingerprint;
+
+    @Column(name = "invoice_id", nullable = false, updatable = false)
+    private UUID invoiceId;
+
+    @Column(name = "installment_id", nullable = false, updatable = false)
+    private UUID installmentId;
+
+    @Column(name = "payment_id", nullable = false, updatable = false)
+    private UUID paymentId;
+
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "payment_date", nullable = false, updatable = false)
+    private LocalDate paymentDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "installment_status", nullable = false, length = 20, updatable = false)
+    private PaymentStatus installmentStatus;
+
+    @Column(name = "invoice_remaining_amount", nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal invoiceRemainingAmount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+}
@@ -2,6 +2,8 @@ package com.payhint.api.infrastructure.persistence.jpa.billing.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import com.payhint.api.application.billing.mapper.BillingValueObjectMapper;
 import com.payhint.api.application.shared.ValueObjectMapper;
@@ -19,4 +21,14 @@ public interface InstallmentPersistenceMapper {
     @Mapping(target = "invoiceId", source = "invoice.id")
     @Mapping(target = "payments", ignore = true)
     Installment toDomain(InstallmentJpaEntity entity);
+
+    @Named("aggregate")
+    @Mapping(target = "invoiceId", source = "invoice.id")
+    Installment toAggregate(InstallmentJpaEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "invoice", ignore = true)
+    @Mapping(target = "payments", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(Installment installment, @MappingTarget InstallmentJpaEntity entity);
 }
@@ -2,6 +2,7 @@ package com.payhint.api.infrastructure.persistence.jpa.billing.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.payhint.api.application.billing.mapper.BillingValueObjectMapper;
 import com.payhint.api.application.shared.ValueObjectMapper;
@@ -16,7 +17,19 @@ public interface InvoicePersistenceMapper {
     @Mapping(target = "installments", ignore = true)
     InvoiceJpaEntity toEntity(Invoice invoice);
 
-    @Mapping(target = "customerId", source = "id")
+    @Mapping(target = "customerId", source = "customer.id")
     @Mapping(target = "installments", ignore = true)
     Invoice toDomain(InvoiceJpaEntity entity);
+
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "installments", qualifiedByName = "aggregate")
+    Invoice toAggregate(InvoiceJpaEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "customer", ignore = true)
+    @Mapping(target = "installments", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(Invoice invoice, @MappingTarget InvoiceJpaEntity entity);
 }
@@ -2,6 +2,7 @@ package com.payhint.api.infrastructure.persistence.jpa.billing.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.payhint.api.application.billing.mapper.BillingValueObjectMapper;
 import com.payhint.api.application.shared.ValueObjectMapper;
@@ -16,4 +17,10 @@ public interface PaymentPersistenceMapper {
 
     @Mapping(target = "installmentId", source = "installment.id")
     Payment toDomain(PaymentJpaEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "installment", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void updateEntity(Payment payment, @MappingTarget PaymentJpaEntity entity);
 }
@@ -0,0 +1,80 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.CustomerBalanceJpaEntity;
+
+@Repository
+public interface CustomerBalanceSpringRepository extends JpaRepository<CustomerBalanceJpaEntity, UUID> {
+
+    String OVERDUE_INSTALLMENTS = "FROM installments i JOIN invoices v ON v.id = i.invoice_id "
+            + "WHERE v.customer_id = b.customer_id AND i.due_date < :today "
+            + "AND i.status IN ('PENDING', 'PARTIALLY_PAID', 'LATE')";
+
+    String CUSTOMER_PAYMENTS = "FROM payments p JOIN installments i ON i.id = p.installment_id "
+            + "JOIN invoices v ON v.id = i.invoice_id WHERE v.customer_id = b.customer_id";
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.billing.repository.CustomerBalanceView(c.id, "
+            + "b.totalInvoiced, b.totalPaid, b.overdueAmount, b.overdueInstallmentCount, b.lastPaymentDate) "
+            + "FROM CustomerJpaEntity c LEFT JOIN CustomerBalanceJpaEntity b ON b.customerId = c.id "
+            + "WHERE c.user.id = :userId AND c.id IN :customerIds")
+    List<CustomerBalanceView> findViewsByUserIdAndCustomerIds(@Param("userId") UUID userId,
+            @Param("customerIds") Collection<UUID> customerIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO customer_balances (customer_id, total_invoiced, total_paid, overdue_amount, "
+            + "overdue_installment_count, overdue_as_of, updated_at) VALUES (:customerId, 0, 0, 0, 0, :today, :now) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId, @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE customer_balances SET total_invoiced = total_invoiced + :invoiced, "
+            + "total_paid = total_paid + :paid, "
+            + "overdue_amount = CASE WHEN overdue_as_of = :today THEN overdue_amount + :overdue "
+            + "ELSE overdue_amount END, "
+            + "overdue_installment_count = CASE WHEN overdue_as_of = :today "
+            + "THEN overdue_installment_count + :overdueCount ELSE overdue_installment_count END, "
+            + "updated_at = :now WHERE customer_id = :customerId", nativeQuery = true)
+    int applyDelta(@Param("customerId") UUID customerId, @Param("invoiced") BigDecimal invoiced,
+            @Param("paid") BigDecimal paid, @Param("overdue") BigDecimal overdue,
+            @Param("overdueCount") int overdueCount, @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE customer_balances SET last_payment_date = :paymentDate "
+            + "WHERE customer_id = :customerId AND (last_payment_date IS NULL OR last_payment_date < :paymentDate)",
+            nativeQuery = true)
+    int advanceLastPaymentDate(@Param("customerId") UUID customerId, @Param("paymentDate") LocalDate paymentDate);
+
+    @Modifying
+    @Query(value = "UPDATE customer_balances b SET "
+            + "overdue_amount = (SELECT COALESCE(SUM(i.amount_due - i.amount_paid), 0) " + OVERDUE_INSTALLMENTS + "), "
+            + "overdue_installment_count = (SELECT COUNT(*) " + OVERDUE_INSTALLMENTS + "), "
+            + "overdue_as_of = :today WHERE b.customer_id IN (:customerIds) AND b.overdue_as_of < :today",
+            nativeQuery = true)
+    int refreshStaleOverdue(@Param("customerIds") Collection<UUID> customerIds, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query(value = "UPDATE customer_balances b SET "
+            + "total_invoiced = (SELECT COALESCE(SUM(v.total_amount), 0) FROM invoices v "
+            + "WHERE v.customer_id = b.customer_id), "
+            + "total_paid = (SELECT COALESCE(SUM(p.amount), 0) " + CUSTOMER_PAYMENTS + "), "
+            + "last_payment_date = (SELECT MAX(p.payment_date) " + CUSTOMER_PAYMENTS + "), "
+            + "overdue_amount = (SELECT COALESCE(SUM(i.amount_due - i.amount_paid), 0) " + OVERDUE_INSTALLMENTS + "), "
+            + "overdue_installment_count = (SELECT COUNT(*) " + OVERDUE_INSTALLMENTS + "), "
+            + "overdue_as_of = :today, updated_at = :now WHERE b.customer_id = :customerId", nativeQuery = true)
+    int recompute(@Param("customerId") UUID customerId, @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CustomerBalanceView(UUID customerId, BigDecimal totalInvoiced, BigDecimal totalPaid,
+        BigDecimal overdueAmount, Integer overdueInstallmentCount, LocalDate lastPaymentDate) {
+}
@@ -0,0 +1,24 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.CustomerPaymentStatisticsJpaEntity;
+
+@Repository
+public interface CustomerPaymentStatisticsSpringRepository
+        extends JpaRepository<CustomerPaymentStatisticsJpaEntity, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO customer_payment_statistics (customer_id, payment_count, on_time_count, "
+            + "mean_days_late, days_late_squared_deviations, collected_weight, days_sales_outstanding, version, "
+            + "updated_at) VALUES (:customerId, 0, 0, 0, 0, 0, 0, 0, :now) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") UUID customerId, @Param("now") LocalDateTime now);
+}
@@ -1,10 +1,15 @@
 package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,8 +24,55 @@ public interface InstallmentSpringRepository extends JpaRepository<InstallmentJp
 
     List<InstallmentJpaEntity> findAllByStatus(PaymentStatus status);
 
-    @Query("SELECT i FROM InstallmentJpaEntity i WHERE i.dueDate < :currentDate AND (i.status = 'PENDING' OR i.status = 'PARTIALLY_PAID')")
-    List<InstallmentJpaEntity> findOverdueInstallments(@Param("currentDate") LocalDate currentDate);
-
     boolean existsByIdAndInvoiceId(UUID id, UUID invoiceId);
-}
\ No newline at end of file
+
+    @Query("SELECT i FROM InstallmentJpaEntity i LEFT JOIN FETCH i.payments WHERE i.invoice.id IN :invoiceIds")
+    List<InstallmentJpaEntity> fetchPaymentsByInvoiceIds(@Param("invoiceIds") Collection<UUID> invoiceIds);
+
+    @Query("SELECT i.invoice.customer.id FROM InstallmentJpaEntity i WHERE i.id = :id")
+    Optional<UUID> findCustomerIdById(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "DELETE FROM installments WHERE id IN (SELECT i.id FROM installments i "
+            + "JOIN invoices v ON v.id = i.invoice_id WHERE v.customer_id = :customerId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunkByCustomerId(@Param("customerId") UUID customerId, @Param("limit") int limit);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.billing.repository.ReceivablesAgingView("
+            + "v.customer.id, v.currency, "
+            + "SUM(CASE WHEN i.dueDate > :asOf THEN i.amountDue - i.amountPaid END), "
+            + "SUM(CASE WHEN i.dueDate <= :asOf AND i.dueDate >= :cutoff30 THEN i.amountDue - i.amountPaid END), "
+            + "SUM(CASE WHEN i.dueDate < :cutoff30 AND i.dueDate >= :cutoff60 THEN i.amountDue - i.amountPaid END), "
+            + "SUM(CASE WHEN i.dueDate < :cutoff60 AND i.dueDate >= :cutoff90 THEN i.amountDue - i.amountPaid END), "
+            + "SUM(CASE WHEN i.dueDate < :cutoff90 THEN i.amountDue - i.amountPaid END)) "
+            + "FROM InstallmentJpaEntity i JOIN i.invoice v "
+            + "WHERE v.customer.user.id = :userId AND i.amountPaid < i.amountDue "
+            + "AND i.status IN ('PENDING', 'PARTIALLY_PAID', 'LATE') GROUP BY v.customer.id, v.currency")
+    List<ReceivablesAgingView> aggregateAgingByUserId(@Param("userId") UUID userId, @Param("asOf") LocalDate asOf,
+            @Param("cutoff30") LocalDate cutoff30, @Param("cutoff60") LocalDate cutoff60,
+            @Param("cutoff90") LocalDate cutoff90);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.billing.repository.OverdueInstallmentView("
+            + "i.id, i.dueDate) FROM InstallmentJpaEntity i WHERE i.status = :status AND i.dueDate < :today "
+            + "ORDER BY i.dueDate, i.id")
+    List<OverdueInstallmentView> findFirstOverduePage(@Param("status") PaymentStatus status,
+            @Param("today") LocalDate today, Limit limit);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.billing.repository.OverdueInstallmentView("
+            + "i.id, i.dueDate) FROM InstallmentJpaEntity i WHERE i.status = :status AND i.dueDate < :today "
+            + "AND (i.dueDate > :dueDate OR (i.dueDate = :dueDate AND i.id > :id)) ORDER BY i.dueDate, i.id")
+    List<OverdueInstallmentView> findOverduePageAfter(@Param("status") PaymentStatus status,
+            @Param("today") LocalDate today, @Param("dueDate") LocalDate dueDate, @Param("id") UUID id, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE installments SET status = 'LATE', version = version + 1 WHERE id IN (:ids) "
+            + "AND status IN ('PENDING', 'PARTIALLY_PAID') AND due_date < :today", nativeQuery = true)
+    int markLate(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InstallmentJpaEntity i SET i.amountPaid = i.amountPaid + :amount, i.status = :status, "
+            + "i.version = i.version + 1 WHERE i.id = :id AND i.version = :version "
+            + "AND i.amountPaid + :amount <= i.amountDue")
+    int applyPayment(@Param("id") UUID id, @Param("version") Long version, @Param("amount") BigDecimal amount,
+            @Param("status") PaymentStatus status);
+}
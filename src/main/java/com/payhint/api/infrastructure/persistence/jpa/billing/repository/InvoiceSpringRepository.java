@@ -1,12 +1,19 @@
 package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.payhint.api.domain.billing.repository.InvoiceVersion;
 import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
 
 @Repository
@@ -14,4 +21,43 @@ public interface InvoiceSpringRepository extends JpaRepository<InvoiceJpaEntity,
     List<InvoiceJpaEntity> findAllByCustomerId(UUID customerId);
 
     Optional<InvoiceJpaEntity> findByCustomerIdAndInvoiceReference(UUID customerId, String invoiceReference);
+
+    @Query("SELECT v FROM InvoiceJpaEntity v LEFT JOIN FETCH v.installments "
+            + "WHERE v.id = :id AND v.customer.user.id = :userId")
+    Optional<InvoiceJpaEntity> findWithInstallmentsByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Query("SELECT v FROM InvoiceJpaEntity v LEFT JOIN FETCH v.installments "
+            + "WHERE v.customer.id = :customerId AND v.customer.user.id = :userId ORDER BY v.createdAt, v.id")
+    List<InvoiceJpaEntity> findAllWithInstallmentsByCustomerIdAndUserId(@Param("customerId") UUID customerId,
+            @Param("userId") UUID userId);
+
+    @Query("SELECT new com.payhint.api.domain.billing.repository.InvoiceVersion(v.version, v.updatedAt) "
+            + "FROM InvoiceJpaEntity v WHERE v.id = :id AND v.customer.user.id = :userId")
+    Optional<InvoiceVersion> findVersionByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Query("SELECT v.customer.id FROM InvoiceJpaEntity v WHERE v.id = :id")
+    Optional<UUID> findCustomerIdById(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "DELETE FROM invoices WHERE id IN (SELECT id FROM invoices WHERE customer_id = :customerId "
+            + "LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByCustomerId(@Param("customerId") UUID customerId, @Param("limit") int limit);
+
+    @Query("SELECT v.id FROM InvoiceJpaEntity v WHERE v.id > :after ORDER BY v.id")
+    List<UUID> findIdChunkAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("SELECT v.id FROM InvoiceJpaEntity v LEFT JOIN v.installments s WHERE v.id IN :ids "
+            + "GROUP BY v.id, v.totalPaid, v.totalScheduled "
+            + "HAVING v.totalPaid <> COALESCE(SUM(s.amountPaid), 0) "
+            + "OR v.totalScheduled <> COALESCE(SUM(s.amountDue), 0)")
+    List<UUID> findIdsWithDriftedTotals(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE invoices SET "
+            + "total_paid = (SELECT COALESCE(SUM(s.amount_paid), 0) FROM installments s "
+            + "WHERE s.invoice_id = invoices.id), "
+            + "total_scheduled = (SELECT COALESCE(SUM(s.amount_due), 0) FROM installments s "
+            + "WHERE s.invoice_id = invoices.id), version = version + 1, updated_at = :now WHERE id IN (:ids)",
+            nativeQuery = true)
+    int recomputeTotals(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
 }
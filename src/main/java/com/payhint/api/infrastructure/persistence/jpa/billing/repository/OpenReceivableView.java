@@ -0,0 +1,8 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record OpenReceivableView(UUID customerId, String currency, LocalDate dueDate, BigDecimal remaining) {
+}
@@ -0,0 +1,7 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record OverdueInstallmentView(UUID id, LocalDate dueDate) {
+}
@@ -0,0 +1,31 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentIdempotencyKeyJpaEntity;
+
+@Repository
+public interface PaymentIdempotencyKeySpringRepository extends JpaRepository<PaymentIdempotencyKeyJpaEntity, UUID> {
+
+    Optional<PaymentIdempotencyKeyJpaEntity> findByUserIdAndIdempotencyKeyAndExpiresAtAfter(UUID userId,
+            String idempotencyKey, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM PaymentIdempotencyKeyJpaEntity k WHERE k.userId = :userId "
+            + "AND k.idempotencyKey = :idempotencyKey AND k.expiresAt <= :now")
+    int deleteExpiredByUserIdAndIdempotencyKey(@Param("userId") UUID userId,
+            @Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM payment_idempotency_keys WHERE id IN (SELECT id FROM payment_idempotency_keys "
+            + "WHERE expires_at <= :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentJpaEntity;
@@ -12,4 +15,10 @@ import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentJpaE
 public interface PaymentSpringRepository extends JpaRepository<PaymentJpaEntity, UUID> {
 
     List<PaymentJpaEntity> findAllByInstallmentId(UUID installmentId);
+
+    @Modifying
+    @Query(value = "DELETE FROM payments WHERE id IN (SELECT p.id FROM payments p "
+            + "JOIN installments i ON i.id = p.installment_id JOIN invoices v ON v.id = i.invoice_id "
+            + "WHERE v.customer_id = :customerId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByCustomerId(@Param("customerId") UUID customerId, @Param("limit") int limit);
 }
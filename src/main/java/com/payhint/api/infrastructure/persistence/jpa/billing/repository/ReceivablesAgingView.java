@@ -0,0 +1,8 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ReceivablesAgingView(UUID customerId, String currency, BigDecimal current, BigDecimal days0To30,
+        BigDecimal days31To60, BigDecimal days61To90, BigDecimal over90Days) {
+}
@@ -0,0 +1,10 @@
+package com.payhint.api.infrastructure.persistence.jpa.billing.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SettledReceivableView(UUID customerId, LocalDateTime issuedAt, LocalDate dueDate, LocalDate paymentDate,
+        BigDecimal amount) {
+}
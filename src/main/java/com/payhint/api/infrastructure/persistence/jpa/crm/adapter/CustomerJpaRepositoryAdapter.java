@@ -1,18 +1,30 @@
 package com.payhint.api.infrastructure.persistence.jpa.crm.adapter;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import com.payhint.api.domain.crm.events.CustomerChangedEvent;
+import com.payhint.api.domain.crm.events.CustomerDeletedEvent;
 import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.repository.CustomerCollectionVersion;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.CustomerVersion;
 import com.payhint.api.domain.crm.valueobjects.CustomerId;
 import com.payhint.api.domain.crm.valueobjects.UserId;
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
 import com.payhint.api.infrastructure.persistence.jpa.crm.mapper.CustomerPersistenceMapper;
 import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,12 +34,31 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
 
     private final CustomerSpringRepository springDataCustomerRepository;
     private final CustomerPersistenceMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Customer save(Customer customer) {
-        CustomerJpaEntity entity = mapper.toEntity(customer);
-        CustomerJpaEntity savedEntity = springDataCustomerRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        CustomerJpaEntity entity = customer.getId() == null ? mapper.toEntity(customer)
+                : springDataCustomerRepository.findById(customer.getId().value()).map(existing -> {
+                    if (customer.getVersion() != null && !customer.getVersion().equals(existing.getVersion())) {
+                        throw new ObjectOptimisticLockingFailureException(CustomerJpaEntity.class, existing.getId());
+                    }
+                    mapper.updateEntity(customer, existing);
+                    return existing;
+                }).orElseGet(() -> mapper.toEntity(customer));
+        CustomerJpaEntity savedEntity = springDataCustomerRepository.saveAndFlush(entity);
+        Customer savedCustomer = mapper.toDomain(savedEntity);
+        eventPublisher.publishEvent(new CustomerChangedEvent(savedCustomer));
+        return savedCustomer;
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<CustomerJpaEntity> entities = customers.stream().map(mapper::toEntity).toList();
+        List<Customer> savedCustomers = springDataCustomerRepository.saveAllAndFlush(entities).stream()
+                .map(mapper::toDomain).toList();
+        savedCustomers.forEach(customer -> eventPublisher.publishEvent(new CustomerChangedEvent(customer)));
+        return savedCustomers;
     }
 
     @Override
@@ -35,15 +66,55 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
         return springDataCustomerRepository.findById(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Customer> findByIdAndUserId(CustomerId id, UserId userId) {
+        return springDataCustomerRepository.findByIdAndUserId(id.value(), userId.value()).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Customer> findReadOnlyByIdAndUserId(CustomerId id, UserId userId) {
+        return springDataCustomerRepository.findViewByIdAndUserId(id.value(), userId.value()).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<CustomerVersion> findVersionByIdAndUserId(CustomerId id, UserId userId) {
+        return springDataCustomerRepository.findVersionByIdAndUserId(id.value(), userId.value());
+    }
+
+    @Override
+    public CustomerCollectionVersion findCollectionVersion(UserId userId) {
+        return springDataCustomerRepository.findCollectionVersionByUserId(userId.value());
+    }
+
     @Override
     public List<Customer> findAllByUserId(UserId userId) {
         return springDataCustomerRepository.findAllByUserId(userId.value()).stream().map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Customer> findPageByUserId(UserId userId, String afterCompanyName, CustomerId afterId, int limit) {
+        List<CustomerView> page = afterId == null
+                ? springDataCustomerRepository.findFirstPageByUserId(userId.value(), Limit.of(limit))
+                : springDataCustomerRepository.findPageByUserIdAfter(userId.value(), afterCompanyName, afterId.value(),
+                        Limit.of(limit));
+        return page.stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public void delete(Customer customer) {
         springDataCustomerRepository.deleteById(customer.getId().value());
+        eventPublisher.publishEvent(new CustomerDeletedEvent(customer.getUserId(), customer.getId()));
+    }
+
+    @Override
+    public boolean markDeletedByIdAndUserId(CustomerId id, UserId userId) {
+        boolean deleted = springDataCustomerRepository.softDeleteByIdAndUserId(id.value(), userId.value(),
+                LocalDateTime.now()) > 0;
+        if (deleted) {
+            eventPublisher.publishEvent(new CustomerDeletedEvent(userId, id));
+        }
+        return deleted;
     }
 
     @Override
@@ -55,4 +126,14 @@ public class CustomerJpaRepositoryAdapter implements CustomerRepository {
     public boolean existsByUserIdAndCompanyName(UserId userId, String companyName) {
         return springDataCustomerRepository.existsByUserIdAndCompanyName(userId.value(), companyName);
     }
+
+    @Override
+    public Set<String> findExistingCompanyNames(UserId userId, Collection<String> companyNames) {
+        return new HashSet<>(springDataCustomerRepository.findExistingCompanyNames(userId.value(), companyNames));
+    }
+
+    @Override
+    public Set<String> findDeletedCompanyNames(UserId userId, Collection<String> companyNames) {
+        return new HashSet<>(springDataCustomerRepository.findDeletedCompanyNames(userId.value(), companyNames));
+    }
 }
@@ -1,9 +1,17 @@
 package com.payhint.api.infrastructure.persistence.jpa.crm.adapter;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+import com.payhint.api.domain.crm.events.UserAccountChangedEvent;
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.repository.UserRepository;
 import com.payhint.api.domain.crm.valueobjects.Email;
@@ -20,11 +28,39 @@ public class UserJpaRepositoryAdapter implements UserRepository {
 
     private final UserSpringRepository springDataUserRepository;
     private final UserPersistenceMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User register(User user) {
-        UserJpaEntity entity = mapper.toEntity(user);
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        springDataUserRepository.insert(id, user.getFirstName(), user.getLastName(), user.getEmail().value(),
+                user.getPassword(), now);
+        User registered = User.builder().id(new UserId(id)).email(user.getEmail()).password(user.getPassword())
+                .firstName(user.getFirstName()).lastName(user.getLastName()).createdAt(now).updatedAt(now).build();
+        eventPublisher.publishEvent(new UserAccountChangedEvent(registered.getId(), registered.getEmail()));
+        return registered;
+    }
+
+    @Override
+    public List<User> registerAll(List<User> users) {
+        List<UserJpaEntity> entities = users.stream().map(mapper::toEntity).toList();
+        List<UserJpaEntity> savedEntities = springDataUserRepository.saveAllAndFlush(entities);
+        savedEntities.forEach(this::publishAccountChanged);
+        return savedEntities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public User save(User user) {
+        UserJpaEntity entity = springDataUserRepository.findById(user.getId().value())
+                .orElseThrow(() -> new IllegalArgumentException("Cannot update unknown user: " + user.getId()));
+        String previousEmail = entity.getEmail();
+        mapper.updateEntity(user, entity);
         UserJpaEntity savedEntity = springDataUserRepository.save(entity);
+        if (!previousEmail.equals(savedEntity.getEmail())) {
+            eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), new Email(previousEmail)));
+        }
+        publishAccountChanged(savedEntity);
         return mapper.toDomain(savedEntity);
     }
 
@@ -43,13 +79,29 @@ public class UserJpaRepositoryAdapter implements UserRepository {
         return springDataUserRepository.existsByEmail(email.value());
     }
 
+    @Override
+    public Set<Email> findExistingEmails(Collection<Email> emails) {
+        List<String> values = emails.stream().map(Email::value).toList();
+        return springDataUserRepository.findExistingEmails(values).stream().map(Email::new)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public void delete(User user) {
-        springDataUserRepository.deleteById(user.getId().value());
+        // callers may pass an id-only user, so the cached email is taken from the stored row
+        springDataUserRepository.findById(user.getId().value()).ifPresent(entity -> {
+            springDataUserRepository.delete(entity);
+            publishAccountChanged(entity);
+        });
     }
 
     @Override
     public boolean existsById(UserId id) {
         return springDataUserRepository.existsById(id.value());
     }
+
+    private void publishAccountChanged(UserJpaEntity entity) {
+        eventPublisher
+                .publishEvent(new UserAccountChangedEvent(new UserId(entity.getId()), new Email(entity.getEmail())));
+    }
 }
@@ -2,18 +2,38 @@ package com.payhint.api.infrastructure.persistence.jpa.crm.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.payhint.api.application.shared.ValueObjectMapper;
 import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.domain.crm.valueobjects.UserId;
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView;
 
 @Mapper(componentModel = "spring", uses = { ValueObjectMapper.class, UserReferencePersistenceMapper.class })
 public interface CustomerPersistenceMapper {
 
     @Mapping(target = "user", source = "userId")
     @Mapping(target = "invoices", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     CustomerJpaEntity toEntity(Customer customer);
 
     @Mapping(target = "userId", source = "user.id")
     Customer toDomain(CustomerJpaEntity entity);
-}
\ No newline at end of file
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "invoices", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    void updateEntity(Customer customer, @MappingTarget CustomerJpaEntity entity);
+
+    default Customer toDomain(CustomerView view) {
+        return Customer.builder().id(new CustomerId(view.id())).userId(new UserId(view.userId()))
+                .companyName(view.companyName()).contactEmail(new Email(view.contactEmail()))
+                .createdAt(view.createdAt()).updatedAt(view.updatedAt()).version(view.version()).build();
+    }
+}
@@ -2,6 +2,7 @@ package com.payhint.api.infrastructure.persistence.jpa.crm.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 import com.payhint.api.application.shared.ValueObjectMapper;
 import com.payhint.api.domain.crm.model.User;
@@ -12,8 +13,15 @@ public interface UserPersistenceMapper {
 
     @Mapping(target = "email", source = "email")
     @Mapping(target = "customers", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     UserJpaEntity toEntity(User user);
 
     @Mapping(target = "email", source = "email")
     User toDomain(UserJpaEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "customers", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
+    void updateEntity(User user, @MappingTarget UserJpaEntity entity);
 }
\ No newline at end of file
@@ -1,11 +1,20 @@
 package com.payhint.api.infrastructure.persistence.jpa.crm.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.payhint.api.domain.crm.repository.CustomerCollectionVersion;
+import com.payhint.api.domain.crm.repository.CustomerVersion;
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
 
 @Repository
@@ -14,4 +23,75 @@ public interface CustomerSpringRepository extends JpaRepository<CustomerJpaEntit
     List<CustomerJpaEntity> findAllByUserId(UUID userId);
 
     boolean existsByUserIdAndCompanyName(UUID userId, String companyName);
+
+    @Query("SELECT c.companyName FROM CustomerJpaEntity c WHERE c.user.id = :userId AND c.companyName IN :companyNames")
+    List<String> findExistingCompanyNames(@Param("userId") UUID userId,
+            @Param("companyNames") Collection<String> companyNames);
+
+    @Query(value = "SELECT company_name FROM customers WHERE user_id = :userId AND deleted_at IS NOT NULL "
+            + "AND company_name IN (:companyNames)", nativeQuery = true)
+    List<String> findDeletedCompanyNames(@Param("userId") UUID userId,
+            @Param("companyNames") Collection<String> companyNames);
+
+    Optional<CustomerJpaEntity> findByIdAndUserId(UUID id, UUID userId);
+
+    @Query("SELECT new com.payhint.api.domain.crm.repository.CustomerVersion(c.version, c.updatedAt) "
+            + "FROM CustomerJpaEntity c WHERE c.id = :id AND c.user.id = :userId")
+    Optional<CustomerVersion> findVersionByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Query("SELECT new com.payhint.api.domain.crm.repository.CustomerCollectionVersion(COUNT(c), MAX(c.updatedAt)) "
+            + "FROM CustomerJpaEntity c WHERE c.user.id = :userId")
+    CustomerCollectionVersion findCollectionVersionByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView(c.id, c.user.id, "
+            + "c.companyName, c.contactEmail, c.createdAt, c.updatedAt, c.version) FROM CustomerJpaEntity c "
+            + "WHERE c.user.id = :userId")
+    List<CustomerView> findAllViewsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView(c.id, c.user.id, "
+            + "c.companyName, c.contactEmail, c.createdAt, c.updatedAt, c.version) FROM CustomerJpaEntity c "
+            + "WHERE c.user.id = :userId ORDER BY c.companyName, c.id")
+    List<CustomerView> findFirstPageByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView(c.id, c.user.id, "
+            + "c.companyName, c.contactEmail, c.createdAt, c.updatedAt, c.version) FROM CustomerJpaEntity c "
+            + "WHERE c.user.id = :userId AND (c.companyName > :companyName "
+            + "OR (c.companyName = :companyName AND c.id > :id)) ORDER BY c.companyName, c.id")
+    List<CustomerView> findPageByUserIdAfter(@Param("userId") UUID userId, @Param("companyName") String companyName,
+            @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT new com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerView(c.id, c.user.id, "
+            + "c.companyName, c.contactEmail, c.createdAt, c.updatedAt, c.version) FROM CustomerJpaEntity c "
+            + "WHERE c.id = :id AND c.user.id = :userId")
+    Optional<CustomerView> findViewByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE customers SET deleted_at = :now, updated_at = :now "
+            + "WHERE id = :id AND user_id = :userId AND deleted_at IS NULL", nativeQuery = true)
+    int softDeleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    // soft-deleted rows are hidden from JPQL, and a raw native UUID column comes back as byte[] on H2, so these
+    // queries select the ids as text
+    @Query(value = "SELECT CAST(id AS VARCHAR(36)) FROM customers WHERE deleted_at IS NOT NULL "
+            + "AND deleted_at < :before ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<String> findPendingPurgeIdValues(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    default List<UUID> findPendingPurgeIds(LocalDateTime before, int limit) {
+        return findPendingPurgeIdValues(before, limit).stream().map(UUID::fromString).toList();
+    }
+
+    @Query("SELECT c.user.id FROM CustomerJpaEntity c WHERE c.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+
+    @Query(value = "SELECT CAST(user_id AS VARCHAR(36)) FROM customers WHERE id = :id AND deleted_at IS NOT NULL",
+            nativeQuery = true)
+    Optional<String> findOwnerIdValueOfDeleted(@Param("id") UUID id);
+
+    default Optional<UUID> findOwnerIdOfDeleted(UUID id) {
+        return findOwnerIdValueOfDeleted(id).map(UUID::fromString);
+    }
+
+    @Modifying
+    @Query(value = "DELETE FROM customers WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeletedById(@Param("id") UUID id);
 }
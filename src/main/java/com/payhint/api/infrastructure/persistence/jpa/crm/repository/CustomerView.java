@@ -0,0 +1,8 @@
+package com.payhint.api.infrastructure.persistence.jpa.crm.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CustomerView(UUID id, UUID userId, String companyName, String contactEmail, LocalDateTime createdAt,
+        LocalDateTime updatedAt, Long version) {
+}
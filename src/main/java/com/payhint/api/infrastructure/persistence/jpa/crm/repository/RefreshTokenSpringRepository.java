@@ -0,0 +1,32 @@
+package com.payhint.api.infrastructure.persistence.jpa.crm.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.RefreshTokenJpaEntity;
+
+@Repository
+public interface RefreshTokenSpringRepository extends JpaRepository<RefreshTokenJpaEntity, UUID> {
+
+    @Query("SELECT r FROM RefreshTokenJpaEntity r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshTokenJpaEntity> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenJpaEntity r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revoke(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenJpaEntity r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenJpaEntity r SET r.revokedAt = :now WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllForUser(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+}
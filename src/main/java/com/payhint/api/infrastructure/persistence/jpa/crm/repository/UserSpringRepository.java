@@ -1,11 +1,18 @@
 package com.payhint.api.infrastructure.persistence.jpa.crm.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.UserJpaEntity;
 
@@ -17,4 +24,30 @@ public interface UserSpringRepository extends JpaRepository<UserJpaEntity, UUID>
     boolean existsByEmail(String email);
 
     boolean existsById(@NonNull UUID id);
+
+    @Query("SELECT u.email FROM UserJpaEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO users (id, first_name, last_name, email, password, token_version, created_at, "
+            + "updated_at) VALUES (:id, :firstName, :lastName, :email, :password, 0, :createdAt, :createdAt)",
+            nativeQuery = true)
+    int insert(@Param("id") UUID id, @Param("firstName") String firstName, @Param("lastName") String lastName,
+            @Param("email") String email, @Param("password") String password,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT u.tokenVersion FROM UserJpaEntity u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserJpaEntity u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserJpaEntity u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password,
+            @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,65 @@
+package com.payhint.api.infrastructure.persistence.jpa.export;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.payhint.api.application.export.dto.response.CustomerExportRow;
+import com.payhint.api.application.export.dto.response.InvoiceExportRow;
+import com.payhint.api.application.export.dto.response.PaymentExportRow;
+import com.payhint.api.application.export.repository.ExportQueryRepository;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+@Repository
+public class ExportQueryJpaRepository implements ExportQueryRepository {
+
+    private static final String PACKAGE = "com.payhint.api.application.export.dto.response.";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ExportQueryJpaRepository(EntityManager entityManager,
+            @Value("${application.exports.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void forEachCustomer(UserId userId, Consumer<CustomerExportRow> action) {
+        stream(entityManager.createQuery("SELECT new " + PACKAGE
+                + "CustomerExportRow(c.id, c.companyName, c.contactEmail, c.createdAt, c.updatedAt) "
+                + "FROM CustomerJpaEntity c WHERE c.user.id = :userId ORDER BY c.companyName, c.id",
+                CustomerExportRow.class).setParameter("userId", userId.value()), action);
+    }
+
+    @Override
+    public void forEachInvoice(UserId userId, Consumer<InvoiceExportRow> action) {
+        stream(entityManager.createQuery("SELECT new " + PACKAGE
+                + "InvoiceExportRow(i.id, c.id, c.companyName, i.invoiceReference, i.totalAmount, i.currency, "
+                + "i.createdAt, i.updatedAt) FROM InvoiceJpaEntity i JOIN i.customer c WHERE c.user.id = :userId "
+                + "ORDER BY c.companyName, i.invoiceReference", InvoiceExportRow.class)
+                .setParameter("userId", userId.value()), action);
+    }
+
+    @Override
+    public void forEachPayment(UserId userId, Consumer<PaymentExportRow> action) {
+        stream(entityManager.createQuery("SELECT new " + PACKAGE
+                + "PaymentExportRow(p.id, i.id, i.invoiceReference, c.companyName, s.id, s.dueDate, p.amount, "
+                + "i.currency, p.paymentDate, p.createdAt) FROM PaymentJpaEntity p JOIN p.installment s "
+                + "JOIN s.invoice i JOIN i.customer c WHERE c.user.id = :userId ORDER BY p.paymentDate, p.id",
+                PaymentExportRow.class).setParameter("userId", userId.value()), action);
+    }
+
+    private <T> void stream(TypedQuery<T> query, Consumer<T> action) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<T> rows = query.getResultStream()) {
+            rows.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.payhint.api.infrastructure.purge;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.domain.crm.events.CustomerDeletedEvent;
+import com.payhint.api.domain.crm.repository.CustomerPurgeProgress;
+import com.payhint.api.domain.crm.repository.CustomerPurgeProgress.Status;
+import com.payhint.api.domain.crm.repository.CustomerPurgeRepository;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+
+import jakarta.annotation.PreDestroy;
+
+@Repository
+public class ChunkedCustomerPurgeRepository implements CustomerPurgeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedCustomerPurgeRepository.class);
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final CustomerSpringRepository customerSpringRepository;
+    private final InvoiceSpringRepository invoiceSpringRepository;
+    private final InstallmentSpringRepository installmentSpringRepository;
+    private final PaymentSpringRepository paymentSpringRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration sweepGrace;
+    private final Cache<UUID, CustomerPurgeProgress> progress;
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor(Thread.ofPlatform().name("customer-purge").daemon().factory());
+
+    public ChunkedCustomerPurgeRepository(CustomerSpringRepository customerSpringRepository,
+            InvoiceSpringRepository invoiceSpringRepository, InstallmentSpringRepository installmentSpringRepository,
+            PaymentSpringRepository paymentSpringRepository, PlatformTransactionManager transactionManager,
+            @Value("${application.purge.customers.chunk-size:1000}") int chunkSize,
+            @Value("${application.purge.customers.progress-retention:PT1H}") Duration progressRetention,
+            @Value("${application.purge.customers.sweep-grace:PT5M}") Duration sweepGrace) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.customerSpringRepository = customerSpringRepository;
+        this.invoiceSpringRepository = invoiceSpringRepository;
+        this.installmentSpringRepository = installmentSpringRepository;
+        this.paymentSpringRepository = paymentSpringRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.sweepGrace = sweepGrace;
+        this.progress = Caffeine.newBuilder().expireAfterWrite(progressRetention).build();
+    }
+
+    @Override
+    public Optional<CustomerPurgeProgress> findProgress(UserId userId, CustomerId customerId) {
+        CustomerPurgeProgress known = progress.getIfPresent(customerId.value());
+        if (known != null) {
+            return known.userId().equals(userId) ? Optional.of(known) : Optional.empty();
+        }
+        return customerSpringRepository.findOwnerIdOfDeleted(customerId.value()).filter(userId.value()::equals)
+                .map(owner -> CustomerPurgeProgress.pending(userId, customerId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerDeleted(CustomerDeletedEvent event) {
+        schedule(event.userId(), event.customerId());
+    }
+
+    @Scheduled(fixedDelayString = "${application.purge.customers.sweep-interval:PT5M}",
+            initialDelayString = "${application.purge.customers.sweep-interval:PT5M}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minus(sweepGrace);
+        for (UUID customerId : customerSpringRepository.findPendingPurgeIds(before, SWEEP_BATCH_SIZE)) {
+            customerSpringRepository.findOwnerIdOfDeleted(customerId)
+                    .ifPresent(owner -> schedule(new UserId(owner), new CustomerId(customerId)));
+        }
+    }
+
+    private void schedule(UserId userId, CustomerId customerId) {
+        UUID key = customerId.value();
+        if (!scheduled.add(key)) {
+            return;
+        }
+        progress.asMap().compute(key, (id, current) -> current == null || current.status() == Status.FAILED
+                ? CustomerPurgeProgress.pending(userId, customerId)
+                : current);
+        executor.execute(() -> {
+            try {
+                purge(key);
+            } finally {
+                scheduled.remove(key);
+            }
+        });
+    }
+
+    private void purge(UUID customerId) {
+        update(customerId, current -> current.started(Instant.now()));
+        try {
+            long payments = deleteInChunks(() -> paymentSpringRepository.deleteChunkByCustomerId(customerId, chunkSize),
+                    count -> update(customerId, current -> current.plus(count, 0, 0)));
+            long installments = deleteInChunks(
+                    () -> installmentSpringRepository.deleteChunkByCustomerId(customerId, chunkSize),
+                    count -> update(customerId, current -> current.plus(0, count, 0)));
+            long invoices = deleteInChunks(() -> invoiceSpringRepository.deleteChunkByCustomerId(customerId, chunkSize),
+                    count -> update(customerId, current -> current.plus(0, 0, count)));
+            transactionTemplate.executeWithoutResult(status -> customerSpringRepository.purgeDeletedById(customerId));
+            update(customerId, current -> current.finished(Status.COMPLETED, Instant.now()));
+            logger.info("Purged customer {} ({} payments, {} installments, {} invoices)", customerId, payments,
+                    installments, invoices);
+        } catch (RuntimeException e) {
+            update(customerId, current -> current.finished(Status.FAILED, Instant.now()));
+            logger.warn("Purge of customer {} failed; it will be retried by the next sweep", customerId, e);
+        }
+    }
+
+    private long deleteInChunks(IntSupplier deleteChunk, IntConsumer onChunk) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+            if (deleted > 0) {
+                onChunk.accept(deleted);
+                total += deleted;
+            }
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    private void update(UUID customerId, UnaryOperator<CustomerPurgeProgress> change) {
+        progress.asMap().computeIfPresent(customerId, (id, current) -> change.apply(current));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
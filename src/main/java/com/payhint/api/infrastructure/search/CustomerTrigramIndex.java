@@ -0,0 +1,196 @@
+package com.payhint.api.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+class CustomerTrigramIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final String PADDING = "  ";
+
+    private static final int RANK_FIELD_PREFIX = 0;
+    private static final int RANK_TOKEN_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+    private static final int RANK_FUZZY = 3;
+
+    private final Map<CustomerId, Document> documents = new HashMap<>();
+    private final Map<String, Set<CustomerId>> postings = new HashMap<>();
+
+    synchronized void put(Customer customer) {
+        remove(customer.getId());
+        Document document = Document.of(customer);
+        documents.put(customer.getId(), document);
+        for (String trigram : document.trigrams()) {
+            postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(customer.getId());
+        }
+    }
+
+    synchronized void remove(CustomerId customerId) {
+        Document document = documents.remove(customerId);
+        if (document == null) {
+            return;
+        }
+        for (String trigram : document.trigrams()) {
+            Set<CustomerId> ids = postings.get(trigram);
+            if (ids != null && ids.remove(customerId) && ids.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return documents.size();
+    }
+
+    synchronized List<Customer> search(String rawQuery, int limit) {
+        String query = normalize(rawQuery);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        int maxEdits = query.length() < 3 ? 0 : query.length() < 6 ? 1 : 2;
+
+        List<Match> matches = new ArrayList<>();
+        for (Document document : candidates(query)) {
+            Match match = document.match(query, maxEdits);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::rank).thenComparingInt(Match::distance)
+                        .thenComparing(match -> match.document().customer().getCompanyName()))
+                .limit(limit).map(match -> match.document().customer()).toList();
+    }
+
+    private Collection<Document> candidates(String query) {
+        if (query.length() < 3) {
+            return documents.values();
+        }
+        Set<CustomerId> ids = new HashSet<>();
+        for (String trigram : queryTrigrams(query)) {
+            ids.addAll(postings.getOrDefault(trigram, Set.of()));
+        }
+        return ids.stream().map(documents::get).toList();
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim().toLowerCase(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("");
+    }
+
+    private static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATORS.split(value)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> queryTrigrams(String query) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        addTrigrams(query, trigrams);
+        for (String token : tokenize(query)) {
+            addTrigrams(PADDING + token, trigrams);
+        }
+        return trigrams;
+    }
+
+    private static void addTrigrams(String value, Set<String> trigrams) {
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + 3));
+        }
+    }
+
+    static int prefixEditDistance(String query, String candidate, int maxEdits) {
+        int[] previous = new int[candidate.length() + 1];
+        int[] current = new int[candidate.length() + 1];
+        for (int j = 0; j <= candidate.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= candidate.length(); j++) {
+                int substitution = previous[j - 1] + (query.charAt(i - 1) == candidate.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int distance : previous) {
+            best = Math.min(best, distance);
+        }
+        return best;
+    }
+
+    private record Match(Document document, int rank, int distance) {
+    }
+
+    private record Document(Customer customer, List<String> fields, List<String> tokens, Set<String> trigrams) {
+
+        static Document of(Customer customer) {
+            List<String> fields = new ArrayList<>();
+            fields.add(normalize(customer.getCompanyName()));
+            if (customer.getContactEmail() != null) {
+                fields.add(normalize(customer.getContactEmail().value()));
+            }
+            List<String> tokens = new ArrayList<>();
+            Set<String> trigrams = new HashSet<>();
+            for (String field : fields) {
+                addTrigrams(field, trigrams);
+                for (String token : tokenize(field)) {
+                    tokens.add(token);
+                    addTrigrams(PADDING + token, trigrams);
+                }
+            }
+            return new Document(customer, fields, tokens, trigrams);
+        }
+
+        Match match(String query, int maxEdits) {
+            if (fields.stream().anyMatch(field -> field.startsWith(query))) {
+                return new Match(this, RANK_FIELD_PREFIX, 0);
+            }
+            if (tokens.stream().anyMatch(token -> token.startsWith(query))) {
+                return new Match(this, RANK_TOKEN_PREFIX, 0);
+            }
+            if (fields.stream().anyMatch(field -> field.contains(query))) {
+                return new Match(this, RANK_SUBSTRING, 0);
+            }
+            if (maxEdits == 0) {
+                return null;
+            }
+            int best = maxEdits + 1;
+            for (String field : fields) {
+                best = Math.min(best, prefixEditDistance(query, field, maxEdits));
+            }
+            for (String token : tokens) {
+                best = Math.min(best, prefixEditDistance(query, token, maxEdits));
+            }
+            return best <= maxEdits ? new Match(this, RANK_FUZZY, best) : null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.payhint.api.infrastructure.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.domain.crm.events.CustomerChangedEvent;
+import com.payhint.api.domain.crm.events.CustomerDeletedEvent;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.repository.CustomerSearchRepository;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.persistence.jpa.crm.mapper.CustomerPersistenceMapper;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+
+@Repository
+public class TrigramCustomerSearchRepository implements CustomerSearchRepository {
+
+    private final CustomerSpringRepository customerSpringRepository;
+    private final CustomerPersistenceMapper mapper;
+    private final Cache<UUID, CustomerTrigramIndex> indexes;
+
+    public TrigramCustomerSearchRepository(CustomerSpringRepository customerSpringRepository,
+            CustomerPersistenceMapper mapper,
+            @Value("${application.search.customers.max-indexed-users:1000}") long maxIndexedUsers,
+            @Value("${application.search.customers.rebuild-after:PT30M}") Duration rebuildAfter) {
+        this.customerSpringRepository = customerSpringRepository;
+        this.mapper = mapper;
+        this.indexes = Caffeine.newBuilder().maximumSize(maxIndexedUsers).expireAfterWrite(rebuildAfter).softValues()
+                .build();
+    }
+
+    @Override
+    public List<Customer> search(UserId userId, String query, int limit) {
+        return indexes.get(userId.value(), this::load).search(query, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        CustomerTrigramIndex index = indexes.getIfPresent(event.customer().getUserId().value());
+        if (index != null) {
+            index.put(event.customer());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerDeleted(CustomerDeletedEvent event) {
+        CustomerTrigramIndex index = indexes.getIfPresent(event.userId().value());
+        if (index != null) {
+            index.remove(event.customerId());
+        }
+    }
+
+    private CustomerTrigramIndex load(UUID userId) {
+        CustomerTrigramIndex index = new CustomerTrigramIndex();
+        customerSpringRepository.findAllViewsByUserId(userId).forEach(view -> index.put(mapper.toDomain(view)));
+        return index;
+    }
+}
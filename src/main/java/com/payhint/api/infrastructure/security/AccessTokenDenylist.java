@@ -0,0 +1,108 @@
+package com.payhint.api.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessTokenDenylist {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long generationMillis;
+    private volatile Generation current;
+    private volatile Generation previous;
+    private volatile long nextRotation;
+
+    public AccessTokenDenylist(@Value("${application.security.jwt.expiration:900000}") long accessTokenExpiration,
+            @Value("${application.security.jwt.denylist.expected-revocations:100000}") long expectedRevocations,
+            @Value("${application.security.jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate) {
+        double bits = -expectedRevocations * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(bits)));
+        this.hashCount = (int) Math.max(1, Math.round(bitCount / (double) expectedRevocations * Math.log(2)));
+        this.generationMillis = accessTokenExpiration;
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+        this.nextRotation = System.currentTimeMillis() + generationMillis;
+    }
+
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return;
+        }
+        rotateIfDue();
+        current.add(token.tokenId(), hashCount);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return false;
+        }
+        rotateIfDue();
+        return current.mightContain(token.tokenId(), hashCount)
+                || previous.mightContain(token.tokenId(), hashCount);
+    }
+
+    private void rotateIfDue() {
+        if (System.currentTimeMillis() < nextRotation) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now < nextRotation) {
+                return;
+            }
+            previous = current;
+            current = new Generation(bitCount);
+            nextRotation = now + generationMillis;
+        }
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+
+        Generation(int bitCount) {
+            this.bitCount = bitCount;
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        }
+
+        void add(String tokenId, int hashCount) {
+            long[] seeds = seeds(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(seeds, i);
+                long mask = 1L << bit;
+                words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+            }
+        }
+
+        boolean mightContain(String tokenId, int hashCount) {
+            long[] seeds = seeds(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(seeds, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long[] seeds, int i) {
+            long combined = seeds[0] + i * seeds[1];
+            return (int) Long.remainderUnsigned(combined, bitCount);
+        }
+
+        private static long[] seeds(String tokenId) {
+            try {
+                UUID uuid = UUID.fromString(tokenId);
+                return new long[] { uuid.getMostSignificantBits(), uuid.getLeastSignificantBits() | 1L };
+            } catch (IllegalArgumentException e) {
+                long hash = tokenId.hashCode() * 0x9E3779B97F4A7C15L;
+                return new long[] { hash, Long.rotateLeft(hash, 31) | 1L };
+            }
+        }
+    }
+}
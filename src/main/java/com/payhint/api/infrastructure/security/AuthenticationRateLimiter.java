@@ -0,0 +1,62 @@
+package com.payhint.api.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.application.shared.exceptions.TooManyRequestsException;
+import com.payhint.api.infrastructure.utils.Normalize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class AuthenticationRateLimiter {
+
+    private final boolean enabled;
+    private final StripedTokenBuckets accountBuckets;
+    private final StripedTokenBuckets clientBuckets;
+    private final Counter throttledAccounts;
+    private final Counter throttledClients;
+
+    public AuthenticationRateLimiter(MeterRegistry meterRegistry,
+            @Value("${application.security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${application.security.rate-limit.buckets:65536}") int buckets,
+            @Value("${application.security.rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${application.security.rate-limit.account.refill-period:PT1M}") Duration accountRefillPeriod,
+            @Value("${application.security.rate-limit.client.capacity:30}") int clientCapacity,
+            @Value("${application.security.rate-limit.client.refill-period:PT1M}") Duration clientRefillPeriod) {
+        this.enabled = enabled;
+        this.accountBuckets = new StripedTokenBuckets(buckets, accountCapacity, accountRefillPeriod);
+        this.clientBuckets = new StripedTokenBuckets(buckets, clientCapacity, clientRefillPeriod);
+        this.throttledAccounts = Counter.builder("security.authentication.throttled").tag("key", "account")
+                .register(meterRegistry);
+        this.throttledClients = Counter.builder("security.authentication.throttled").tag("key", "client")
+                .register(meterRegistry);
+    }
+
+    public void checkAllowed(String email, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long clientWait = clientAddress == null ? 0L : clientBuckets.tryAcquire(clientAddress, now);
+        if (clientWait > 0) {
+            throttledClients.increment();
+            throw tooManyRequests(clientWait);
+        }
+        long accountWait = email == null ? 0L : accountBuckets.tryAcquire(Normalize.email(email.trim()), now);
+        if (accountWait > 0) {
+            throttledAccounts.increment();
+            throw tooManyRequests(accountWait);
+        }
+    }
+
+    private static TooManyRequestsException tooManyRequests(long waitMillis) {
+        long retryAfterSeconds = Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+        return new TooManyRequestsException("Too many authentication attempts, please retry later.",
+                retryAfterSeconds);
+    }
+}
@@ -23,6 +23,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final UserAuthorities userAuthorities;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
@@ -45,12 +48,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            userEmail = jwtTokenProvider.extractUsername(jwt);
+            VerifiedToken verifiedToken = jwtTokenProvider.verify(jwt);
+            userEmail = verifiedToken.subject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails = resolvePrincipal(verifiedToken);
 
-                if (jwtTokenProvider.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && userEmail.equals(userDetails.getUsername())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
                             null, userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -63,4 +67,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolvePrincipal(VerifiedToken verifiedToken) {
+        if (accessTokenDenylist.isRevoked(verifiedToken)) {
+            return null;
+        }
+        if (!verifiedToken.carriesPrincipal()) {
+            return this.userDetailsService.loadUserByUsername(verifiedToken.subject());
+        }
+        if (!tokenVersionRegistry.isCurrent(verifiedToken.userId(), verifiedToken.tokenVersion())) {
+            return null;
+        }
+        return new UserPrincipal(verifiedToken.userId(), verifiedToken.subject(), null,
+                userAuthorities.forEmail(verifiedToken.subject()), verifiedToken.tokenVersion());
+    }
 }
@@ -1,10 +1,16 @@
 package com.payhint.api.infrastructure.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -12,30 +18,73 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${application.security.jwt.secret}")
-    private String secretKey;
+    static final String USER_ID_CLAIM = "uid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final long jwtExpiration;
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${application.security.jwt.secret}") String secretKey,
+            @Value("${application.security.jwt.expiration:900000}") long jwtExpiration,
+            @Value("${application.security.jwt.verification-cache-size:10000}") long verificationCacheSize) {
+        this.jwtExpiration = jwtExpiration;
+        this.signInKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signInKey).build();
+        this.verifiedTokens = Caffeine.newBuilder().maximumSize(verificationCacheSize)
+                .expireAfter(Expiry.<String, VerifiedToken>creating(
+                        (digest, token) -> Duration.between(Instant.now(), token.expiresAt())))
+                .build();
+    }
 
-    @Value("${application.security.jwt.expiration}")
-    private long jwtExpiration;
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = parse(token);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public Optional<VerifiedToken> tryVerify(String token) {
+        try {
+            return Optional.of(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public long getExpiration() {
+        return jwtExpiration;
+    }
+
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof UserPrincipal principal) {
+            claims.put(USER_ID_CLAIM, principal.getId().toString());
+            claims.put(TOKEN_VERSION_CLAIM, principal.getTokenVersion());
+        }
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -43,30 +92,30 @@ public class JwtTokenProvider {
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts.builder().claims(extraClaims).subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration)).signWith(getSignInKey()).compact();
+        long now = System.currentTimeMillis();
+        return Jwts.builder().id(UUID.randomUUID().toString()).claims(extraClaims).subject(userDetails.getUsername())
+                .issuedAt(new Date(now)).expiration(new Date(now + expiration)).signWith(signInKey).compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).subject().equals(userDetails.getUsername());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSignInKey()).build().parseSignedClaims(token).getPayload();
+    private VerifiedToken parse(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return new VerifiedToken(claims.getId(), claims.getSubject(), userId == null ? null : UUID.fromString(userId),
+                tokenVersion == null ? null : tokenVersion.longValue(), claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
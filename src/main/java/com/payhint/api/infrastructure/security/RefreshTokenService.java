@@ -0,0 +1,92 @@
+package com.payhint.api.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.RefreshTokenJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.UserJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.RefreshTokenSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@Component
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenSpringRepository refreshTokenSpringRepository;
+    private final UserSpringRepository userSpringRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final long refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenSpringRepository refreshTokenSpringRepository,
+            UserSpringRepository userSpringRepository, TokenVersionRegistry tokenVersionRegistry,
+            @Value("${application.security.jwt.refresh-expiration:604800000}") long refreshExpiration) {
+        this.refreshTokenSpringRepository = refreshTokenSpringRepository;
+        this.userSpringRepository = userSpringRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Transactional
+    public String issue(UUID userId) {
+        return issue(userSpringRepository.getReferenceById(userId), UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public RotatedRefreshToken rotate(String refreshToken) {
+        RefreshTokenJpaEntity current = refreshTokenSpringRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token."));
+        LocalDateTime now = LocalDateTime.now();
+        UserJpaEntity user = current.getUser();
+
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException("Invalid refresh token.");
+        }
+        if (current.getRevokedAt() != null || refreshTokenSpringRepository.revoke(current.getId(), now) == 0) {
+            refreshTokenSpringRepository.revokeAllForUser(user.getId(), now);
+            tokenVersionRegistry.revokeAll(user.getId());
+            throw new BadCredentialsException("Invalid refresh token.");
+        }
+
+        String nextToken = issue(user, current.getFamilyId(), now);
+        UserPrincipal principal = new UserPrincipal(user.getId(), user.getEmail(), null, null, user.getTokenVersion());
+        return new RotatedRefreshToken(principal, nextToken);
+    }
+
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenSpringRepository.findByTokenHash(hash(refreshToken)).ifPresent(
+                token -> refreshTokenSpringRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    private String issue(UserJpaEntity user, UUID familyId, LocalDateTime now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenSpringRepository.save(RefreshTokenJpaEntity.builder().user(user).tokenHash(hash(token))
+                .familyId(familyId).expiresAt(now.plusNanos(refreshExpiration * 1_000_000L)).build());
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
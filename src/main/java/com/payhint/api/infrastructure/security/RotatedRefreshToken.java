@@ -0,0 +1,4 @@
+package com.payhint.api.infrastructure.security;
+
+public record RotatedRefreshToken(UserPrincipal principal, String refreshToken) {
+}
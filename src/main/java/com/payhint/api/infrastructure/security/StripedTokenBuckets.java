@@ -0,0 +1,60 @@
+package com.payhint.api.infrastructure.security;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class StripedTokenBuckets {
+
+    private static final int TOKEN_BITS = 16;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final AtomicLongArray states;
+    private final int mask;
+    private final long capacity;
+    private final long millisPerToken;
+    private final int seed;
+
+    public StripedTokenBuckets(int buckets, int capacity, Duration refillPeriod) {
+        if (capacity < 1 || capacity > TOKEN_MASK) {
+            throw new IllegalArgumentException("Bucket capacity must be between 1 and " + TOKEN_MASK);
+        }
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.states = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.millisPerToken = Math.max(1L, refillPeriod.toMillis() / capacity);
+        this.seed = ThreadLocalRandom.current().nextInt();
+    }
+
+    public long tryAcquire(String key, long nowMillis) {
+        int index = indexOf(key);
+        while (true) {
+            long state = states.get(index);
+            long tokens = state == 0 ? capacity : state & TOKEN_MASK;
+            long lastRefill = state == 0 ? nowMillis : state >>> TOKEN_BITS;
+
+            long refilled = (nowMillis - lastRefill) / millisPerToken;
+            if (refilled > 0) {
+                tokens = Math.min(capacity, tokens + refilled);
+                lastRefill = tokens == capacity ? nowMillis : lastRefill + refilled * millisPerToken;
+            }
+            if (tokens == 0) {
+                return Math.max(1L, millisPerToken - (nowMillis - lastRefill));
+            }
+            long next = (lastRefill << TOKEN_BITS) | (tokens - 1);
+            if (states.compareAndSet(index, state, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    private int indexOf(String key) {
+        int hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+}
@@ -0,0 +1,45 @@
+package com.payhint.api.infrastructure.security;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.domain.crm.events.UserAccountChangedEvent;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@Component
+public class TokenVersionRegistry {
+
+    private final UserSpringRepository userSpringRepository;
+    // Invalidation only reaches this node's cache; other nodes keep accepting a revoked version until their entry
+    // expires, so the TTL bounds how long "log out everywhere" or a password change takes to apply cluster-wide.
+    private final Cache<UUID, Long> currentVersions;
+
+    public TokenVersionRegistry(UserSpringRepository userSpringRepository,
+            @Value("${application.security.jwt.version-cache-size:10000}") long cacheSize,
+            @Value("${application.security.jwt.version-cache-ttl:PT30S}") Duration cacheTtl) {
+        this.userSpringRepository = userSpringRepository;
+        this.currentVersions = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(cacheTtl).build();
+    }
+
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        Long currentVersion = currentVersions.get(userId,
+                id -> userSpringRepository.findTokenVersionById(id).orElse(null));
+        return currentVersion != null && currentVersion == tokenVersion;
+    }
+
+    public void revokeAll(UUID userId) {
+        userSpringRepository.incrementTokenVersion(userId);
+        currentVersions.invalidate(userId);
+    }
+
+    @EventListener
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        currentVersions.invalidate(event.userId().value());
+    }
+}
@@ -0,0 +1,28 @@
+package com.payhint.api.infrastructure.security;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.payhint.api.infrastructure.utils.Normalize;
+
+@Component
+public class UserAuthorities {
+
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private static final List<GrantedAuthority> ADMIN = List.of(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE));
+
+    private final String adminEmail;
+
+    public UserAuthorities(@Value("${payhint.admin.email:}") String adminEmail) {
+        this.adminEmail = adminEmail.isBlank() ? null : Normalize.email(adminEmail.trim());
+    }
+
+    public List<GrantedAuthority> forEmail(String email) {
+        return adminEmail != null && adminEmail.equals(Normalize.email(email)) ? ADMIN : List.of();
+    }
+}
@@ -1,25 +1,77 @@
 package com.payhint.api.infrastructure.security;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.payhint.api.domain.crm.events.UserAccountChangedEvent;
 import com.payhint.api.infrastructure.persistence.jpa.crm.entity.UserJpaEntity;
 import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
-@RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserSpringRepository userSpringRepository;
+    private final UserAuthorities userAuthorities;
+    private final Cache<String, UserPrincipal> userDetailsCache;
+
+    public UserDetailsServiceImpl(UserSpringRepository userSpringRepository, UserAuthorities userAuthorities,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.user-details-cache.size:5000}") long cacheSize,
+            @Value("${application.security.user-details-cache.ttl:PT10M}") Duration cacheTtl) {
+        this.userSpringRepository = userSpringRepository;
+        this.userAuthorities = userAuthorities;
+        this.userDetailsCache = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(cacheTtl).recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserJpaEntity user = userSpringRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(), null);
+        UserPrincipal principal = userDetailsCache.get(email.toLowerCase(), this::loadPrincipal);
+        if (principal == null) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+        return principal;
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        String email = user.getUsername().toLowerCase();
+        userSpringRepository.updatePassword(email, newPassword, LocalDateTime.now());
+        userDetailsCache.invalidate(email);
+        if (user instanceof UserPrincipal principal) {
+            return new UserPrincipal(principal.getId(), principal.getUsername(), newPassword,
+                    principal.getAuthorities(), principal.getTokenVersion());
+        }
+        return loadUserByUsername(email);
+    }
+
+    @EventListener
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (event.email() != null) {
+            userDetailsCache.invalidate(event.email().value().toLowerCase());
+        }
+    }
+
+    private UserPrincipal loadPrincipal(String email) {
+        return userSpringRepository.findByEmail(email).map(this::toPrincipal).orElse(null);
+    }
+
+    private UserPrincipal toPrincipal(UserJpaEntity user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(),
+                userAuthorities.forEmail(user.getEmail()), user.getTokenVersion());
     }
 }
@@ -13,18 +13,29 @@ public class UserPrincipal implements UserDetails {
     private final String email;
     private final String password;
     private final Collection<? extends GrantedAuthority> authorities;
+    private final long tokenVersion;
 
     public UserPrincipal(UUID id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        this(id, email, password, authorities, 0L);
+    }
+
+    public UserPrincipal(UUID id, String email, String password, Collection<? extends GrantedAuthority> authorities,
+            long tokenVersion) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.authorities = authorities == null ? Collections.emptyList() : authorities;
+        this.tokenVersion = tokenVersion;
     }
 
     public UUID getId() {
         return id;
     }
 
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
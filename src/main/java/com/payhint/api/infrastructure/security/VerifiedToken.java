@@ -0,0 +1,11 @@
+package com.payhint.api.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VerifiedToken(String tokenId, String subject, UUID userId, Long tokenVersion, Instant issuedAt, Instant expiresAt) {
+
+    public boolean carriesPrincipal() {
+        return userId != null && tokenVersion != null;
+    }
+}
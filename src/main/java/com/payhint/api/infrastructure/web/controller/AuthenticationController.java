@@ -1,18 +1,23 @@
 package com.payhint.api.infrastructure.web.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.payhint.api.application.crm.dto.request.LoginUserRequest;
+import com.payhint.api.application.crm.dto.request.RefreshTokenRequest;
 import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
 import com.payhint.api.application.crm.dto.response.LoginResponse;
 import com.payhint.api.application.crm.dto.response.UserResponse;
 import com.payhint.api.application.crm.usecases.AuthenticationUseCase;
+import com.payhint.api.infrastructure.security.AuthenticationRateLimiter;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -20,22 +25,43 @@ import jakarta.validation.Valid;
 public class AuthenticationController {
 
     private final AuthenticationUseCase authenticationUseCase;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
 
-    public AuthenticationController(AuthenticationUseCase authenticationUseCase) {
+    public AuthenticationController(AuthenticationUseCase authenticationUseCase,
+            AuthenticationRateLimiter authenticationRateLimiter) {
         this.authenticationUseCase = authenticationUseCase;
+        this.authenticationRateLimiter = authenticationRateLimiter;
     }
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
-    public UserResponse register(@Valid @RequestBody RegisterUserRequest request) {
+    public UserResponse register(@Valid @RequestBody RegisterUserRequest request, HttpServletRequest httpRequest) {
+        authenticationRateLimiter.checkAllowed(request.email(), httpRequest.getRemoteAddr());
         UserResponse response = authenticationUseCase.register(request);
         return response;
     }
 
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginUserRequest request) {
+    public LoginResponse login(@Valid @RequestBody LoginUserRequest request, HttpServletRequest httpRequest) {
+        authenticationRateLimiter.checkAllowed(request.email(), httpRequest.getRemoteAddr());
         LoginResponse response = authenticationUseCase.login(request);
         return response;
     }
 
+    @PostMapping("/refresh")
+    public LoginResponse refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse response = authenticationUseCase.refresh(request);
+        return response;
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authenticationUseCase.logout(request, accessToken);
+    }
+
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.payhint.api.infrastructure.web.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,41 +15,103 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
 import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.dto.response.CustomerImportResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPageResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPaymentStatisticsResponse;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
+import com.payhint.api.application.crm.dto.response.CustomerSummaryResponse;
 import com.payhint.api.application.crm.usecases.CustomerManagementUseCase;
+import com.payhint.api.application.shared.ResourceVersion;
 import com.payhint.api.domain.crm.valueobjects.CustomerId;
 import com.payhint.api.domain.crm.valueobjects.UserId;
 import com.payhint.api.infrastructure.security.UserPrincipal;
+import com.payhint.api.infrastructure.web.imports.CustomerImportReader;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/customers")
 public class CustomerController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CustomerManagementUseCase customerManagementUseCase;
+    private final ObjectMapper objectMapper;
 
-    public CustomerController(CustomerManagementUseCase customerManagementUseCase) {
+    public CustomerController(CustomerManagementUseCase customerManagementUseCase, ObjectMapper objectMapper) {
         this.customerManagementUseCase = customerManagementUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{id}")
-    public CustomerResponse getById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id) {
+    public CustomerResponse getById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id,
+            WebRequest webRequest) {
         UserId userId = new UserId(userPrincipal.getId());
         CustomerId customerId = new CustomerId(UUID.fromString(id));
+        Optional<ResourceVersion> version = customerManagementUseCase.getCustomerVersion(userId, customerId);
+        if (version.isPresent() && EntityTags.isNotModified(webRequest, version.get())) {
+            return null;
+        }
         return customerManagementUseCase.viewCustomerProfile(userId, customerId);
     }
 
     @GetMapping()
-    public List<CustomerResponse> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+    public ResponseEntity<List<CustomerResponse>> getAll(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        UserId userId = new UserId(userPrincipal.getId());
+        ResourceVersion version = customerManagementUseCase.getCustomerCollectionVersion(userId, cursor, limit);
+        if (EntityTags.isNotModified(webRequest, version)) {
+            return null;
+        }
+        CustomerPageResponse page = customerManagementUseCase.listCustomers(userId, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping("/search")
+    public List<CustomerResponse> search(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam("q") String query, @RequestParam(required = false) Integer limit) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return customerManagementUseCase.searchCustomers(userId, query, limit);
+    }
+
+    @GetMapping("/{id}/summary")
+    public CustomerSummaryResponse getSummary(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return customerManagementUseCase.getCustomerSummary(userId, new CustomerId(UUID.fromString(id)));
+    }
+
+    @GetMapping("/{id}/payment-statistics")
+    public CustomerPaymentStatisticsResponse getPaymentStatistics(
+            @AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id) {
         UserId userId = new UserId(userPrincipal.getId());
-        return customerManagementUseCase.listAllCustomers(userId);
+        return customerManagementUseCase.getCustomerPaymentStatistics(userId, new CustomerId(UUID.fromString(id)));
+    }
+
+    @GetMapping("/summaries")
+    public List<CustomerSummaryResponse> getSummaries(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam List<String> ids) {
+        UserId userId = new UserId(userPrincipal.getId());
+        List<CustomerId> customerIds = ids.stream().map(id -> new CustomerId(UUID.fromString(id))).toList();
+        return customerManagementUseCase.getCustomerSummaries(userId, customerIds);
     }
 
     @PostMapping()
@@ -57,19 +122,43 @@ public class CustomerController {
         return customerManagementUseCase.createCustomer(userId, request);
     }
 
+    @PostMapping(value = "/import", consumes = { CustomerImportReader.TEXT_CSV,
+            CustomerImportReader.APPLICATION_NDJSON })
+    public CustomerImportResponse importCustomers(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            HttpServletRequest request) throws IOException {
+        UserId userId = new UserId(userPrincipal.getId());
+        try (CustomerImportReader rows = CustomerImportReader.open(request.getContentType(), request.getInputStream(),
+                objectMapper)) {
+            return customerManagementUseCase.importCustomers(userId, rows);
+        }
+    }
+
     @PutMapping("/{id}")
-    public CustomerResponse update(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id,
+    public ResponseEntity<CustomerResponse> update(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateCustomerRequest request) {
         UserId userId = new UserId(userPrincipal.getId());
         CustomerId customerId = new CustomerId(UUID.fromString(id));
-        return customerManagementUseCase.updateCustomerDetails(userId, customerId, request);
+        CustomerResponse response = customerManagementUseCase.updateCustomerDetails(userId, customerId,
+                EntityTags.parseIfMatch(ifMatch), request);
+        return ResponseEntity.ok().eTag(EntityTags.format(response.version())).body(response);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id) {
+    public ResponseEntity<CustomerDeletionResponse> delete(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id) {
         UserId userId = new UserId(userPrincipal.getId());
         CustomerId customerId = new CustomerId(UUID.fromString(id));
-        customerManagementUseCase.deleteCustomer(userId, customerId);
-        return ResponseEntity.noContent().build();
+        CustomerDeletionResponse deletion = customerManagementUseCase.deleteCustomer(userId, customerId);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/deletion").build().toUri())
+                .body(deletion);
+    }
+
+    @GetMapping("/{id}/deletion")
+    public CustomerDeletionResponse getDeletion(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return customerManagementUseCase.getCustomerDeletion(userId, new CustomerId(UUID.fromString(id)));
     }
-}
\ No newline at end of file
+}
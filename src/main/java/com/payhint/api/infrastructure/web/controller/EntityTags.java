@@ -0,0 +1,42 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import org.springframework.web.context.request.WebRequest;
+
+import com.payhint.api.application.shared.ResourceVersion;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String format(ResourceVersion version) {
+        return "\"" + version.tag() + "\"";
+    }
+
+    static String format(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean isNotModified(WebRequest webRequest, ResourceVersion version) {
+        if (version.lastModified() == null) {
+            return webRequest.checkNotModified(format(version));
+        }
+        return webRequest.checkNotModified(format(version), version.lastModified().toEpochMilli());
+    }
+
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through: an unknown tag can never match the current representation
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version of the resource.");
+    }
+}
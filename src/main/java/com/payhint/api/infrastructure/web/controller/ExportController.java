@@ -0,0 +1,75 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.application.export.dto.response.CustomerExportRow;
+import com.payhint.api.application.export.dto.response.ExportRow;
+import com.payhint.api.application.export.dto.response.InvoiceExportRow;
+import com.payhint.api.application.export.dto.response.PaymentExportRow;
+import com.payhint.api.application.export.usecases.DataExportUseCase;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+import com.payhint.api.infrastructure.web.exports.ExportFormat;
+import com.payhint.api.infrastructure.web.exports.ExportRowWriter;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final DataExportUseCase dataExportUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ExportController(DataExportUseCase dataExportUseCase, ObjectMapper objectMapper) {
+        this.dataExportUseCase = dataExportUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "csv") String format) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return stream("customers", ExportFormat.from(format), CustomerExportRow.COLUMNS,
+                rows -> dataExportUseCase.exportCustomers(userId, rows::accept));
+    }
+
+    @GetMapping("/invoices")
+    public ResponseEntity<StreamingResponseBody> exportInvoices(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "csv") String format) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return stream("invoices", ExportFormat.from(format), InvoiceExportRow.COLUMNS,
+                rows -> dataExportUseCase.exportInvoices(userId, rows::accept));
+    }
+
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "csv") String format) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return stream("payments", ExportFormat.from(format), PaymentExportRow.COLUMNS,
+                rows -> dataExportUseCase.exportPayments(userId, rows::accept));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format, List<String> columns,
+            Consumer<Consumer<ExportRow>> source) {
+        StreamingResponseBody body = outputStream -> {
+            ExportRowWriter writer = ExportRowWriter.open(format, outputStream, objectMapper, columns);
+            source.accept(writer::write);
+            writer.finish();
+        };
+        ContentDisposition disposition = ContentDisposition.attachment().filename(name + "." + format.extension())
+                .build();
+        return ResponseEntity.ok().contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString()).body(body);
+    }
+}
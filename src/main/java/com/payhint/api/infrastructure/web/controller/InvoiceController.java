@@ -0,0 +1,121 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.application.billing.usecases.InvoiceManagementUseCase;
+import com.payhint.api.application.shared.ResourceVersion;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/invoices")
+public class InvoiceController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final InvoiceManagementUseCase invoiceManagementUseCase;
+
+    public InvoiceController(InvoiceManagementUseCase invoiceManagementUseCase) {
+        this.invoiceManagementUseCase = invoiceManagementUseCase;
+    }
+
+    @GetMapping("/{id}")
+    public InvoiceResponse getById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id,
+            WebRequest webRequest) {
+        UserId userId = new UserId(userPrincipal.getId());
+        InvoiceId invoiceId = new InvoiceId(UUID.fromString(id));
+        Optional<ResourceVersion> version = invoiceManagementUseCase.getInvoiceVersion(userId, invoiceId);
+        if (version.isPresent() && EntityTags.isNotModified(webRequest, version.get())) {
+            return null;
+        }
+        return invoiceManagementUseCase.viewInvoice(userId, invoiceId);
+    }
+
+    @GetMapping()
+    public List<InvoiceResponse> getAllForCustomer(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam String customerId) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return invoiceManagementUseCase.listInvoices(userId, new CustomerId(UUID.fromString(customerId)));
+    }
+
+    @PostMapping()
+    @ResponseStatus(HttpStatus.CREATED)
+    public InvoiceResponse create(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody CreateInvoiceRequest request) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return invoiceManagementUseCase.createInvoice(userId, request);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<InvoiceResponse> update(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdateInvoiceRequest request) {
+        UserId userId = new UserId(userPrincipal.getId());
+        InvoiceId invoiceId = new InvoiceId(UUID.fromString(id));
+        InvoiceResponse response = invoiceManagementUseCase.updateInvoice(userId, invoiceId,
+                EntityTags.parseIfMatch(ifMatch), request);
+        return ResponseEntity.ok().eTag(EntityTags.format(response.version())).body(response);
+    }
+
+    @PostMapping("/{id}/installments")
+    @ResponseStatus(HttpStatus.CREATED)
+    public InvoiceResponse addInstallment(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id, @Valid @RequestBody CreateInstallmentRequest request) {
+        UserId userId = new UserId(userPrincipal.getId());
+        return invoiceManagementUseCase.addInstallment(userId, new InvoiceId(UUID.fromString(id)), request);
+    }
+
+    @PostMapping("/{id}/installments/{installmentId}/payments")
+    public ResponseEntity<PaymentReceiptResponse> recordPayment(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String id, @PathVariable String installmentId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody RecordPaymentRequest request) {
+        UserId userId = new UserId(userPrincipal.getId());
+        PaymentReceiptResponse receipt = invoiceManagementUseCase.recordPayment(userId,
+                new InvoiceId(UUID.fromString(id)), new InstallmentId(UUID.fromString(installmentId)), idempotencyKey,
+                request);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (receipt.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(receipt);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable String id) {
+        UserId userId = new UserId(userPrincipal.getId());
+        invoiceManagementUseCase.deleteInvoice(userId, new InvoiceId(UUID.fromString(id)));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.CashflowForecastResponse;
+import com.payhint.api.application.billing.usecases.ReceivablesReportUseCase;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private final ReceivablesReportUseCase receivablesReportUseCase;
+
+    public ReportController(ReceivablesReportUseCase receivablesReportUseCase) {
+        this.receivablesReportUseCase = receivablesReportUseCase;
+    }
+
+    @GetMapping("/aging")
+    public AgingReportResponse getAging(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "currency") String groupBy) {
+        return receivablesReportUseCase.getAgingReport(new UserId(userPrincipal.getId()), groupBy);
+    }
+
+    @GetMapping("/cashflow")
+    public CashflowForecastResponse getCashflow(@AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) String from, @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "month") String granularity) {
+        return receivablesReportUseCase.getCashflowForecast(new UserId(userPrincipal.getId()), parseDate("from", from),
+                parseDate("to", to), granularity);
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("'" + name + "' must be an ISO date (yyyy-MM-dd).");
+        }
+    }
+}
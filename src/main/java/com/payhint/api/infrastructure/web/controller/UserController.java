@@ -0,0 +1,40 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.payhint.api.application.crm.dto.request.BulkRegisterUsersRequest;
+import com.payhint.api.application.crm.dto.response.BulkRegisterUsersResponse;
+import com.payhint.api.application.crm.usecases.AuthenticationUseCase;
+import com.payhint.api.infrastructure.security.AuthenticationRateLimiter;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    private final AuthenticationUseCase authenticationUseCase;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
+
+    public UserController(AuthenticationUseCase authenticationUseCase,
+            AuthenticationRateLimiter authenticationRateLimiter) {
+        this.authenticationUseCase = authenticationUseCase;
+        this.authenticationRateLimiter = authenticationRateLimiter;
+    }
+
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkRegisterUsersResponse registerAll(@AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody BulkRegisterUsersRequest request, HttpServletRequest httpRequest) {
+        authenticationRateLimiter.checkAllowed(principal.getUsername(), httpRequest.getRemoteAddr());
+        return authenticationUseCase.registerAll(request);
+    }
+}
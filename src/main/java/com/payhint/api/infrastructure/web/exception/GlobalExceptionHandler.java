@@ -6,8 +6,11 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,6 +20,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
 import com.payhint.api.application.shared.exceptions.NotFoundException;
 import com.payhint.api.application.shared.exceptions.PermissionDeniedException;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+import com.payhint.api.application.shared.exceptions.ServiceUnavailableException;
+import com.payhint.api.application.shared.exceptions.TooManyRequestsException;
 import com.payhint.api.domain.shared.exceptions.DomainException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -56,6 +62,57 @@ public class GlobalExceptionHandler {
                 return problemDetail;
         }
 
+        @ExceptionHandler(PreconditionFailedException.class)
+        public ProblemDetail handlePreconditionFailedException(PreconditionFailedException ex,
+                        HttpServletRequest request) {
+                logger.warn("Precondition failed: {}", ex.getMessage());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED,
+                                ex.getMessage());
+                problemDetail.setTitle("Precondition Failed");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return problemDetail;
+        }
+
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ProblemDetail handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                        HttpServletRequest request) {
+                logger.warn("Concurrent modification: {}", ex.getMessage());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED,
+                                "The resource was modified concurrently. Reload it and retry.");
+                problemDetail.setTitle("Precondition Failed");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return problemDetail;
+        }
+
+        @ExceptionHandler(ServiceUnavailableException.class)
+        public ResponseEntity<ProblemDetail> handleServiceUnavailableException(ServiceUnavailableException ex,
+                        HttpServletRequest request) {
+                logger.warn("Service unavailable: {}", ex.getMessage());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                                ex.getMessage());
+                problemDetail.setTitle("Service Unavailable");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(problemDetail);
+        }
+
+        @ExceptionHandler(TooManyRequestsException.class)
+        public ResponseEntity<ProblemDetail> handleTooManyRequestsException(TooManyRequestsException ex,
+                        HttpServletRequest request) {
+                logger.warn("Too many requests: {}", ex.getMessage());
+                ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                                ex.getMessage());
+                problemDetail.setTitle("Too Many Requests");
+                problemDetail.setInstance(URI.create(request.getRequestURI()));
+                problemDetail.setProperty("timestamp", Instant.now());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(problemDetail);
+        }
+
         @ExceptionHandler(DomainException.class)
         public ProblemDetail handleDomainException(DomainException ex, HttpServletRequest request) {
                 logger.warn("Domain exception: {}", ex.getMessage());
@@ -0,0 +1,101 @@
+package com.payhint.api.infrastructure.web.exports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.payhint.api.application.export.dto.response.ExportRow;
+
+public class ExportRowWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    private ExportRowWriter(Writer writer, JsonGenerator generator, ObjectWriter objectWriter) {
+        this.writer = writer;
+        this.generator = generator;
+        this.objectWriter = objectWriter;
+    }
+
+    public static ExportRowWriter open(ExportFormat format, OutputStream outputStream, ObjectMapper objectMapper,
+            List<String> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns);
+            return new ExportRowWriter(writer, null, null);
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET).disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+        return new ExportRowWriter(writer, generator,
+                objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+    public void write(ExportRow row) {
+        try {
+            if (generator == null) {
+                writeCsvLine(writer, row.values());
+            } else {
+                objectWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
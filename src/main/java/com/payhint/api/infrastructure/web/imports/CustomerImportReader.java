@@ -0,0 +1,199 @@
+package com.payhint.api.infrastructure.web.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.application.crm.dto.request.ImportCustomerRow;
+
+public class CustomerImportReader implements Iterator<ImportCustomerRow>, Closeable {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final String COMPANY_NAME = "companyname";
+    private static final String CONTACT_EMAIL = "contactemail";
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final boolean csv;
+    private int companyNameColumn = -1;
+    private int contactEmailColumn = -1;
+    private long lineNumber;
+    private ImportCustomerRow next;
+
+    private CustomerImportReader(InputStream inputStream, ObjectMapper objectMapper, boolean csv) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.csv = csv;
+    }
+
+    public static CustomerImportReader open(String contentType, InputStream inputStream, ObjectMapper objectMapper) {
+        MediaType mediaType = contentType == null ? null : MediaType.parseMediaType(contentType);
+        if (mediaType != null && mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+            CustomerImportReader importReader = new CustomerImportReader(inputStream, objectMapper, true);
+            importReader.readCsvHeader();
+            return importReader;
+        }
+        if (mediaType != null && mediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON))) {
+            return new CustomerImportReader(inputStream, objectMapper, false);
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRow();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportCustomerRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportCustomerRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readCsvHeader() {
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is missing its header line.");
+        }
+        List<String> columns = splitCsvLine(header);
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+            if (COMPANY_NAME.equals(column)) {
+                companyNameColumn = i;
+            } else if (CONTACT_EMAIL.equals(column)) {
+                contactEmailColumn = i;
+            }
+        }
+        if (companyNameColumn < 0 || contactEmailColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain companyName and contactEmail columns.");
+        }
+    }
+
+    private ImportCustomerRow readRow() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        return csv ? readCsvRecord(line) : parseJson(line);
+    }
+
+    private ImportCustomerRow readCsvRecord(String firstLine) {
+        // a quoted field may span lines, so keep reading until its closing quote and report the starting line
+        long startLine = lineNumber;
+        StringBuilder record = new StringBuilder(firstLine);
+        boolean quoted = togglesQuote(firstLine);
+        while (quoted) {
+            String line = readLine();
+            if (line == null) {
+                return ImportCustomerRow.invalid(startLine, "Unterminated quoted field.");
+            }
+            record.append('\n').append(line);
+            quoted ^= togglesQuote(line);
+        }
+        return parseCsv(startLine, record.toString());
+    }
+
+    private ImportCustomerRow parseCsv(long line, String record) {
+        List<String> fields = splitCsvLine(record);
+        int required = Math.max(companyNameColumn, contactEmailColumn);
+        if (fields.size() <= required) {
+            return ImportCustomerRow.invalid(line, "Expected at least " + (required + 1) + " columns.");
+        }
+        return new ImportCustomerRow(line, fields.get(companyNameColumn), fields.get(contactEmailColumn), null);
+    }
+
+    private ImportCustomerRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return ImportCustomerRow.invalid(lineNumber, "Expected a JSON object.");
+            }
+            return new ImportCustomerRow(lineNumber, node.path("companyName").asText(null),
+                    node.path("contactEmail").asText(null), null);
+        } catch (JsonProcessingException e) {
+            return ImportCustomerRow.invalid(lineNumber, "Malformed JSON.");
+        }
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null && ++lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean togglesQuote(String line) {
+        // escaped quotes come in pairs, so only an odd count opens or closes a field
+        boolean toggles = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                toggles = !toggles;
+            }
+        }
+        return toggles;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -7,7 +7,7 @@
 -- Enable the pgcrypto extension for UUID generation if not already enabled
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
 
-DROP TABLE IF EXISTS notification_logs, payments, installments, invoices, templates, customers, user_settings, users CASCADE;
+DROP TABLE IF EXISTS notification_logs, customer_payment_statistics, customer_balances, payment_idempotency_keys, payments, installments, invoices, templates, customers, refresh_tokens, user_settings, users CASCADE;
 DROP TYPE IF EXISTS installment_status_enum, notification_status_enum;
 
 
@@ -31,6 +31,7 @@ CREATE TABLE users (
     last_name VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
+    token_version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
 );
@@ -44,6 +45,16 @@ CREATE TABLE user_settings (
     reminder_schedule JSONB
 );
 
+CREATE TABLE refresh_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id UUID NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
 CREATE TABLE customers (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
@@ -51,6 +62,8 @@ CREATE TABLE customers (
     contact_email VARCHAR(100) NOT NULL,
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted_at TIMESTAMPTZ,
     CONSTRAINT uq_user_company_name UNIQUE (user_id, company_name)
 );
 
@@ -68,9 +81,12 @@ CREATE TABLE invoices (
     customer_id UUID NOT NULL REFERENCES customers(id) ON DELETE CASCADE,
     invoice_reference VARCHAR(255) NOT NULL,
     total_amount NUMERIC(12, 2) NOT NULL CHECK (total_amount >= 0),
+    total_paid NUMERIC(12, 2) NOT NULL DEFAULT 0.00 CHECK (total_paid >= 0),
+    total_scheduled NUMERIC(12, 2) NOT NULL DEFAULT 0.00 CHECK (total_scheduled >= 0),
     currency VARCHAR(10) NOT NULL,
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT uq_customer_invoice_reference UNIQUE (customer_id, invoice_reference)
 );
 
@@ -80,18 +96,61 @@ CREATE TABLE installments (
     amount_due NUMERIC(12, 2) NOT NULL CHECK (amount_due >= 0),
     amount_paid NUMERIC(12, 2) NOT NULL DEFAULT 0.00 CHECK (amount_paid >= 0),
     due_date DATE NOT NULL,
-    status installment_status_enum NOT NULL DEFAULT 'PENDING'
+    status installment_status_enum NOT NULL DEFAULT 'PENDING',
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE payments (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
-    installment_id UUID NOT NULL REFERENCES installments(id) ON DELETE RESTRICT,
+    installment_id UUID NOT NULL REFERENCES installments(id) ON DELETE CASCADE,
     amount NUMERIC(12, 2) NOT NULL CHECK (amount >= 0),
     payment_date DATE NOT NULL,
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
 );
 
+CREATE TABLE payment_idempotency_keys (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    idempotency_key VARCHAR(255) NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    invoice_id UUID NOT NULL,
+    installment_id UUID NOT NULL,
+    payment_id UUID NOT NULL,
+    amount NUMERIC(12, 2) NOT NULL,
+    payment_date DATE NOT NULL,
+    installment_status VARCHAR(20) NOT NULL,
+    invoice_remaining_amount NUMERIC(12, 2) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_payment_idempotency_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE TABLE customer_balances (
+    customer_id UUID PRIMARY KEY REFERENCES customers(id) ON DELETE CASCADE,
+    total_invoiced NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    total_paid NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    overdue_amount NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    overdue_installment_count INTEGER NOT NULL DEFAULT 0,
+    last_payment_date DATE,
+    overdue_as_of DATE NOT NULL DEFAULT CURRENT_DATE,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE customer_payment_statistics (
+    customer_id UUID PRIMARY KEY REFERENCES customers(id) ON DELETE CASCADE,
+    payment_count BIGINT NOT NULL DEFAULT 0,
+    on_time_count BIGINT NOT NULL DEFAULT 0,
+    mean_days_late DOUBLE PRECISION NOT NULL DEFAULT 0,
+    days_late_squared_deviations DOUBLE PRECISION NOT NULL DEFAULT 0,
+    median_marker_heights DOUBLE PRECISION[],
+    median_marker_positions BIGINT[],
+    collected_weight DOUBLE PRECISION NOT NULL DEFAULT 0,
+    days_sales_outstanding DOUBLE PRECISION NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
 CREATE TABLE notification_logs (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     installment_id UUID NOT NULL REFERENCES installments(id) ON DELETE CASCADE,
@@ -102,7 +161,12 @@ CREATE TABLE notification_logs (
 
 
 
+CREATE INDEX idx_refresh_tokens_on_user_id ON refresh_tokens(user_id);
+CREATE INDEX idx_refresh_tokens_on_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_customers_on_user_id_company_name_id ON customers(user_id, company_name, id);
+CREATE INDEX idx_customers_pending_purge ON customers(deleted_at) WHERE deleted_at IS NOT NULL;
 CREATE INDEX idx_invoices_on_customer_id ON invoices(customer_id);
 CREATE INDEX idx_installments_on_invoice_id ON installments(invoice_id);
 CREATE INDEX idx_installments_on_status_and_due_date ON installments(status, due_date);
 CREATE INDEX idx_payments_on_installment_id ON payments(installment_id);
+CREATE INDEX idx_payment_idempotency_keys_on_expires_at ON payment_idempotency_keys(expires_at);
@@ -0,0 +1,197 @@
+package com.payhint.api.application.billing.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.response.InstallmentResponse;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.domain.billing.exceptions.InvalidMoneyValueException;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentIdempotencyKeySpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.concurrency.invoice-locks.timeout=PT60S")
+@DisplayName("Invoice Payment Concurrency Integration Tests")
+class InvoicePaymentConcurrencyIntegrationTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private PaymentSpringRepository paymentSpringRepository;
+
+    @Autowired
+    private PaymentIdempotencyKeySpringRepository paymentIdempotencyKeySpringRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private InvoiceId invoiceId;
+    private InstallmentId installmentId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.register(new User(new Email("racer@payhint.com"), "Password123!", "John", "Doe"));
+        Customer customer = customerRepository
+                .save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+        InvoiceResponse invoice = invoiceService.createInvoice(user.getId(), new CreateInvoiceRequest(
+                customer.getId().toString(), "INV-RACE", new BigDecimal("100.00"), "EUR"));
+        invoiceId = new InvoiceId(UUID.fromString(invoice.id()));
+        InvoiceResponse withInstallment = invoiceService.addInstallment(user.getId(), invoiceId,
+                new CreateInstallmentRequest(new BigDecimal("100.00"), LocalDate.now().plusDays(30)));
+        installmentId = new InstallmentId(UUID.fromString(withInstallment.installments().get(0).id()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentIdempotencyKeySpringRepository.deleteAll();
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should never overpay an installment under heavy parallel payments")
+    void shouldNeverOverpayUnderContention() throws Exception {
+        List<Future<PaymentReceiptResponse>> results = race(() -> invoiceService.recordPayment(user.getId(),
+                invoiceId, installmentId, null, new RecordPaymentRequest(new BigDecimal("5.00"), LocalDate.now())));
+
+        int accepted = 0;
+        for (Future<PaymentReceiptResponse> result : results) {
+            try {
+                result.get();
+                accepted++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(InvalidMoneyValueException.class);
+            }
+        }
+
+        InvoiceResponse invoice = invoiceService.viewInvoice(user.getId(), invoiceId);
+        InstallmentResponse installment = invoice.installments().get(0);
+        assertThat(accepted).isEqualTo(20);
+        assertThat(paymentSpringRepository.count()).isEqualTo(20);
+        assertThat(installment.amountPaid()).isEqualByComparingTo("100.00");
+        assertThat(installment.status()).isEqualTo(PaymentStatus.PAID.name());
+        assertThat(invoice.totalPaid()).isEqualByComparingTo("100.00");
+        assertThat(invoice.remainingAmount()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("Should record a single payment when parallel retries share an idempotency key")
+    void shouldRecordOnceForSharedIdempotencyKey() throws Exception {
+        List<Future<PaymentReceiptResponse>> results = race(() -> invoiceService.recordPayment(user.getId(),
+                invoiceId, installmentId, "race-key", new RecordPaymentRequest(new BigDecimal("5.00"),
+                        LocalDate.now())));
+
+        List<PaymentReceiptResponse> receipts = new ArrayList<>();
+        for (Future<PaymentReceiptResponse> result : results) {
+            receipts.add(result.get());
+        }
+
+        assertThat(paymentSpringRepository.count()).isEqualTo(1);
+        assertThat(receipts).extracting(receipt -> receipt.payment().id())
+                .containsOnly(receipts.get(0).payment().id());
+        assertThat(receipts).filteredOn(PaymentReceiptResponse::replayed).hasSize(THREADS - 1);
+        assertThat(invoiceService.viewInvoice(user.getId(), invoiceId).totalPaid()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("Should reject a stale or overpaying installment update at the database")
+    void shouldGuardInstallmentUpdateInDatabase() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Installment stale = installmentRepository.findById(installmentId.value()).orElseThrow();
+
+        Installment updated = transactionTemplate
+                .execute(status -> installmentRepository.applyPayment(stale, Money.ofMinor(4_000L, 2)));
+
+        assertThat(updated.getAmountPaid()).isEqualTo(Money.ofMinor(4_000L, 2));
+        assertThat(updated.getVersion()).isGreaterThan(stale.getVersion());
+        assertThatThrownBy(() -> transactionTemplate
+                .execute(status -> installmentRepository.applyPayment(stale, Money.ofMinor(4_000L, 2))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> transactionTemplate
+                .execute(status -> installmentRepository.applyPayment(updated, Money.ofMinor(7_000L, 2))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(installmentRepository.findById(installmentId.value()).orElseThrow().getAmountPaid())
+                .isEqualTo(Money.ofMinor(4_000L, 2));
+    }
+
+    private List<Future<PaymentReceiptResponse>> race(Callable<PaymentReceiptResponse> payment)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentReceiptResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return payment.call();
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+}
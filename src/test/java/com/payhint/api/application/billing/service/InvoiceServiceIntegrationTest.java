@@ -0,0 +1,345 @@
+package com.payhint.api.application.billing.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.application.billing.dto.response.PaymentReceiptResponse;
+import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
+import com.payhint.api.application.shared.exceptions.NotFoundException;
+import com.payhint.api.application.shared.exceptions.PermissionDeniedException;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+import com.payhint.api.domain.billing.exceptions.InvalidMoneyValueException;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.repository.PaymentRepository;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:testdb;MODE=PostgreSQL",
+        "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
+        "spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop", "spring.jpa.properties.hibernate.generate_statistics=true" })
+@Transactional
+@DisplayName("InvoiceService Integration Tests")
+class InvoiceServiceIntegrationTest {
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UserId testUserId;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository
+                .register(new User(new Email("invoicer@payhint.com"), "Password123!", "Test", "User"));
+        testUserId = user.getId();
+        customer = customerRepository.save(new Customer(testUserId, "Acme", new Email("billing@acme.com")));
+    }
+
+    private InvoiceResponse createInvoice(String reference, String totalAmount) {
+        return invoiceService.createInvoice(testUserId, new CreateInvoiceRequest(customer.getId().toString(),
+                reference, new BigDecimal(totalAmount), "EUR"));
+    }
+
+    private InvoiceResponse createInvoiceWithPaidInstallments(String reference, int installmentCount) {
+        InvoiceResponse invoice = createInvoice(reference, String.valueOf(installmentCount * 100));
+        InvoiceId invoiceId = InvoiceId.fromString(invoice.id());
+        for (int i = 0; i < installmentCount; i++) {
+            invoice = invoiceService.addInstallment(testUserId, invoiceId,
+                    new CreateInstallmentRequest(new BigDecimal("100.00"), LocalDate.now().plusDays(i + 1)));
+        }
+        Invoice aggregate = invoiceRepository.findAggregateByIdAndUserId(invoiceId, testUserId).orElseThrow();
+        for (Installment installment : aggregate.getInstallments()) {
+            Payment payment = new Payment(installment.getId(), new Money(new BigDecimal("25.00")), LocalDate.now());
+            aggregate.addPaymentToInstallment(installment, payment);
+            installmentRepository.save(installment);
+            paymentRepository.save(payment);
+        }
+        invoiceRepository.save(aggregate);
+        return invoiceService.viewInvoice(testUserId, invoiceId);
+    }
+
+    @Nested
+    @DisplayName("Aggregate Loading Integration Tests")
+    class AggregateLoadingIntegrationTests {
+
+        private long countStatements(InvoiceId invoiceId) {
+            entityManager.flush();
+            entityManager.clear();
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            invoiceService.viewInvoice(testUserId, invoiceId);
+            return statistics.getPrepareStatementCount();
+        }
+
+        @Test
+        @DisplayName("Should load the full invoice aggregate")
+        void shouldLoadFullAggregate() {
+            InvoiceResponse created = createInvoiceWithPaidInstallments("INV-001", 3);
+            entityManager.flush();
+            entityManager.clear();
+
+            InvoiceResponse invoice = invoiceService.viewInvoice(testUserId, InvoiceId.fromString(created.id()));
+
+            assertThat(invoice.customerId()).isEqualTo(customer.getId().toString());
+            assertThat(invoice.installments()).hasSize(3);
+            assertThat(invoice.installments()).allSatisfy(installment -> {
+                assertThat(installment.payments()).hasSize(1);
+                assertThat(installment.amountPaid()).isEqualByComparingTo("25.00");
+                assertThat(installment.status()).isEqualTo("PARTIALLY_PAID");
+            });
+            assertThat(invoice.totalPaid()).isEqualByComparingTo("75.00");
+            assertThat(invoice.totalScheduled()).isEqualByComparingTo("300.00");
+            assertThat(invoice.remainingAmount()).isEqualByComparingTo("225.00");
+        }
+
+        @Test
+        @DisplayName("Should issue the same number of statements regardless of installment count")
+        void shouldKeepStatementCountConstant() {
+            InvoiceResponse small = createInvoiceWithPaidInstallments("INV-SMALL", 1);
+            InvoiceResponse large = createInvoiceWithPaidInstallments("INV-LARGE", 12);
+
+            long smallCount = countStatements(InvoiceId.fromString(small.id()));
+            long largeCount = countStatements(InvoiceId.fromString(large.id()));
+
+            assertThat(largeCount).isEqualTo(smallCount);
+            assertThat(largeCount).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Invoice Integration Tests")
+    class CreateInvoiceIntegrationTests {
+
+        @Test
+        @DisplayName("Should create an invoice for the user's customer")
+        void shouldCreateInvoice() {
+            InvoiceResponse invoice = createInvoice("INV-001", "1200.00");
+
+            assertThat(invoice.id()).isNotNull();
+            assertThat(invoice.invoiceReference()).isEqualTo("INV-001");
+            assertThat(invoice.totalAmount()).isEqualByComparingTo("1200.00");
+            assertThat(invoice.installments()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a duplicate reference for the same customer")
+        void shouldRejectDuplicateReference() {
+            createInvoice("INV-001", "1200.00");
+
+            assertThatThrownBy(() -> createInvoice("INV-001", "10.00")).isInstanceOf(AlreadyExistsException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject invoices for another user's customer")
+        void shouldRejectForeignCustomer() {
+            User anotherUser = userRepository
+                    .register(new User(new Email("another@payhint.com"), "Password123!", "Another", "User"));
+
+            assertThatThrownBy(() -> invoiceService.createInvoice(anotherUser.getId(), new CreateInvoiceRequest(
+                    customer.getId().toString(), "INV-001", new BigDecimal("10.00"), "EUR")))
+                    .isInstanceOf(PermissionDeniedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Invoice Integration Tests")
+    class UpdateInvoiceIntegrationTests {
+
+        @Test
+        @DisplayName("Should update the invoice when the expected version matches")
+        void shouldUpdateWithMatchingVersion() {
+            InvoiceResponse invoice = createInvoice("INV-001", "1200.00");
+
+            InvoiceResponse updated = invoiceService.updateInvoice(testUserId, InvoiceId.fromString(invoice.id()),
+                    invoice.version(), new UpdateInvoiceRequest(null, new BigDecimal("1500.00"), null));
+
+            assertThat(updated.totalAmount()).isEqualByComparingTo("1500.00");
+            assertThat(updated.version()).isGreaterThan(invoice.version());
+        }
+
+        @Test
+        @DisplayName("Should reject a stale expected version")
+        void shouldRejectStaleVersion() {
+            InvoiceResponse invoice = createInvoice("INV-001", "1200.00");
+            invoiceService.addInstallment(testUserId, InvoiceId.fromString(invoice.id()),
+                    new CreateInstallmentRequest(new BigDecimal("100.00"), LocalDate.now().plusDays(30)));
+
+            assertThatThrownBy(() -> invoiceService.updateInvoice(testUserId, InvoiceId.fromString(invoice.id()),
+                    invoice.version(), new UpdateInvoiceRequest("INV-002", null, null)))
+                    .isInstanceOf(PreconditionFailedException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject lowering the total below the amount already paid")
+        void shouldRejectTotalBelowPaid() {
+            InvoiceResponse invoice = createInvoiceWithPaidInstallments("INV-001", 2);
+
+            assertThatThrownBy(() -> invoiceService.updateInvoice(testUserId, InvoiceId.fromString(invoice.id()),
+                    null, new UpdateInvoiceRequest(null, new BigDecimal("10.00"), null)))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Payment Integration Tests")
+    class RecordPaymentIntegrationTests {
+
+        private InvoiceId invoiceId;
+        private InstallmentId installmentId;
+
+        @BeforeEach
+        void setUpInstallment() {
+            InvoiceResponse invoice = createInvoice("INV-001", "300.00");
+            invoiceId = InvoiceId.fromString(invoice.id());
+            invoice = invoiceService.addInstallment(testUserId, invoiceId,
+                    new CreateInstallmentRequest(new BigDecimal("300.00"), LocalDate.now().plusDays(30)));
+            installmentId = InstallmentId.fromString(invoice.installments().get(0).id());
+        }
+
+        private PaymentReceiptResponse pay(String idempotencyKey, String amount) {
+            return invoiceService.recordPayment(testUserId, invoiceId, installmentId, idempotencyKey,
+                    new RecordPaymentRequest(new BigDecimal(amount), LocalDate.now()));
+        }
+
+        @Test
+        @DisplayName("Should record a payment through the invoice aggregate")
+        void shouldRecordPayment() {
+            PaymentReceiptResponse receipt = pay("key-1", "100.00");
+
+            assertThat(receipt.replayed()).isFalse();
+            assertThat(receipt.payment().id()).isNotNull();
+            assertThat(receipt.installmentStatus()).isEqualTo("PARTIALLY_PAID");
+            assertThat(receipt.invoiceRemainingAmount()).isEqualByComparingTo("200.00");
+
+            InvoiceResponse invoice = invoiceService.viewInvoice(testUserId, invoiceId);
+            assertThat(invoice.totalPaid()).isEqualByComparingTo("100.00");
+            assertThat(invoice.installments().get(0).payments()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should replay the original receipt for a repeated idempotency key")
+        void shouldReplayRepeatedKey() {
+            PaymentReceiptResponse first = pay("key-1", "100.00");
+            PaymentReceiptResponse second = pay("key-1", "100.00");
+
+            assertThat(second.replayed()).isTrue();
+            assertThat(second.payment()).isEqualTo(first.payment());
+            assertThat(second.invoiceRemainingAmount()).isEqualByComparingTo("200.00");
+            assertThat(invoiceService.viewInvoice(testUserId, invoiceId).totalPaid()).isEqualByComparingTo("100.00");
+        }
+
+        @Test
+        @DisplayName("Should reject reusing an idempotency key for a different request")
+        void shouldRejectKeyReuseWithDifferentRequest() {
+            pay("key-1", "100.00");
+
+            assertThatThrownBy(() -> pay("key-1", "50.00")).isInstanceOf(AlreadyExistsException.class);
+        }
+
+        @Test
+        @DisplayName("Should record separate payments without an idempotency key")
+        void shouldRecordWithoutKey() {
+            pay(null, "100.00");
+            pay(null, "100.00");
+
+            assertThat(invoiceService.viewInvoice(testUserId, invoiceId).totalPaid()).isEqualByComparingTo("200.00");
+        }
+
+        @Test
+        @DisplayName("Should reject payments exceeding the installment's remaining amount")
+        void shouldRejectOverpayment() {
+            assertThatThrownBy(() -> pay("key-1", "300.01")).isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException for an installment of another invoice")
+        void shouldRejectUnknownInstallment() {
+            assertThatThrownBy(() -> invoiceService.recordPayment(testUserId, invoiceId,
+                    new InstallmentId(UUID.randomUUID()), "key-1",
+                    new RecordPaymentRequest(new BigDecimal("10.00"), LocalDate.now())))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("Installment not found.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete Invoice Integration Tests")
+    class DeleteInvoiceIntegrationTests {
+
+        @Test
+        @DisplayName("Should delete the invoice and its installments")
+        void shouldDeleteInvoice() {
+            InvoiceResponse invoice = createInvoiceWithPaidInstallments("INV-001", 2);
+            InvoiceId invoiceId = InvoiceId.fromString(invoice.id());
+
+            invoiceService.deleteInvoice(testUserId, invoiceId);
+            entityManager.flush();
+            entityManager.clear();
+
+            assertThatThrownBy(() -> invoiceService.viewInvoice(testUserId, invoiceId))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("Invoice not found.");
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException for an unknown invoice")
+        void shouldThrowForUnknownInvoice() {
+            assertThatThrownBy(() -> invoiceService.deleteInvoice(testUserId, new InvoiceId(UUID.randomUUID())))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+}
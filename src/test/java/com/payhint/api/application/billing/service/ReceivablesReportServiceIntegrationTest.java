@@ -0,0 +1,241 @@
+package com.payhint.api.application.billing.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.response.AgingReportResponse;
+import com.payhint.api.application.billing.dto.response.AgingRowResponse;
+import com.payhint.api.application.billing.dto.response.CashflowAmountResponse;
+import com.payhint.api.application.billing.dto.response.CashflowForecastResponse;
+import com.payhint.api.application.billing.dto.response.CashflowPeriodResponse;
+import com.payhint.api.application.billing.dto.response.InvoiceResponse;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ReceivablesReportService Integration Tests")
+class ReceivablesReportServiceIntegrationTest {
+
+    @Autowired
+    private ReceivablesReportService receivablesReportService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    private User user;
+    private Customer acme;
+    private Customer globex;
+    private InvoiceId euroInvoiceId;
+    private InstallmentId recentlyDueId;
+    private InstallmentId longOverdueId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.register(new User(new Email("aging@payhint.com"), "Password123!", "John", "Doe"));
+        acme = customerRepository.save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+        globex = customerRepository.save(new Customer(user.getId(), "Globex", new Email("billing@globex.io")));
+        LocalDate today = LocalDate.now();
+
+        euroInvoiceId = invoice(acme, "INV-EUR-1", "EUR");
+        installment(euroInvoiceId, "100.00", today.plusDays(10));
+        recentlyDueId = installment(euroInvoiceId, "200.00", today.minusDays(5));
+        longOverdueId = installment(euroInvoiceId, "300.00", today.minusDays(45));
+        installment(euroInvoiceId, "150.00", today.minusDays(75));
+        installment(euroInvoiceId, "250.00", today.minusDays(120));
+
+        InvoiceId otherEuroInvoiceId = invoice(globex, "INV-EUR-2", "EUR");
+        installment(otherEuroInvoiceId, "40.00", today.minusDays(30));
+        InvoiceId dollarInvoiceId = invoice(globex, "INV-USD-1", "USD");
+        installment(dollarInvoiceId, "500.00", today.minusDays(31));
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    private InvoiceId invoice(Customer customer, String reference, String currency) {
+        InvoiceResponse invoice = invoiceService.createInvoice(user.getId(),
+                new CreateInvoiceRequest(customer.getId().toString(), reference, new BigDecimal("1000.00"), currency));
+        return new InvoiceId(UUID.fromString(invoice.id()));
+    }
+
+    private InstallmentId installment(InvoiceId invoiceId, String amountDue, LocalDate dueDate) {
+        InvoiceResponse invoice = invoiceService.addInstallment(user.getId(), invoiceId,
+                new CreateInstallmentRequest(new BigDecimal(amountDue), dueDate));
+        return invoice.installments().stream().filter(installment -> installment.dueDate().equals(dueDate))
+                .map(installment -> new InstallmentId(UUID.fromString(installment.id()))).findFirst().orElseThrow();
+    }
+
+    private AgingRowResponse row(AgingReportResponse report, String customerId, String currency) {
+        return report.rows().stream()
+                .filter(row -> row.currency().equals(currency)
+                        && (customerId == null || customerId.equals(row.customerId())))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should bucket outstanding amounts per currency by days past due")
+    void shouldBucketPerCurrency() {
+        AgingReportResponse report = receivablesReportService.getAgingReport(user.getId(), null);
+
+        assertThat(report.asOf()).isEqualTo(LocalDate.now());
+        assertThat(report.groupBy()).isEqualTo("currency");
+        assertThat(report.rows()).extracting(AgingRowResponse::currency).containsExactly("EUR", "USD");
+        AgingRowResponse euros = row(report, null, "EUR");
+        assertThat(euros.customerId()).isNull();
+        assertThat(euros.current()).isEqualByComparingTo("100.00");
+        assertThat(euros.days0To30()).isEqualByComparingTo("240.00");
+        assertThat(euros.days31To60()).isEqualByComparingTo("300.00");
+        assertThat(euros.days61To90()).isEqualByComparingTo("150.00");
+        assertThat(euros.over90Days()).isEqualByComparingTo("250.00");
+        assertThat(euros.total()).isEqualByComparingTo("1040.00");
+        assertThat(row(report, null, "USD").days31To60()).isEqualByComparingTo("500.00");
+    }
+
+    @Test
+    @DisplayName("Should break the report down by customer and currency")
+    void shouldBreakDownByCustomer() {
+        AgingReportResponse report = receivablesReportService.getAgingReport(user.getId(), "CUSTOMER");
+
+        assertThat(report.groupBy()).isEqualTo("customer");
+        assertThat(report.rows()).hasSize(3);
+        assertThat(row(report, acme.getId().toString(), "EUR").total()).isEqualByComparingTo("1000.00");
+        assertThat(row(report, globex.getId().toString(), "EUR").days0To30()).isEqualByComparingTo("40.00");
+        assertThat(row(report, globex.getId().toString(), "USD").total()).isEqualByComparingTo("500.00");
+        assertThat(report.rows().get(0).customerId()).isEqualTo(acme.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache and drop it when a payment is recorded")
+    void shouldInvalidateCachedReportOnPayment() {
+        receivablesReportService.getAgingReport(user.getId(), null);
+        // written behind the repositories' backs, so no invalidation event is published
+        installmentSpringRepository.save(InstallmentJpaEntity.builder()
+                .invoice(invoiceSpringRepository.findById(euroInvoiceId.value()).orElseThrow())
+                .amountDue(new BigDecimal("5.00")).dueDate(LocalDate.now().plusDays(1)).build());
+
+        assertThat(row(receivablesReportService.getAgingReport(user.getId(), null), null, "EUR").current())
+                .isEqualByComparingTo("100.00");
+
+        invoiceService.recordPayment(user.getId(), euroInvoiceId, recentlyDueId, null,
+                new RecordPaymentRequest(new BigDecimal("50.00"), LocalDate.now()));
+
+        AgingRowResponse euros = row(receivablesReportService.getAgingReport(user.getId(), null), null, "EUR");
+        assertThat(euros.current()).isEqualByComparingTo("105.00");
+        assertThat(euros.days0To30()).isEqualByComparingTo("190.00");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown grouping")
+    void shouldRejectUnknownGrouping() {
+        assertThatThrownBy(() -> receivablesReportService.getAgingReport(user.getId(), "invoice"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CashflowAmountResponse expected(CashflowForecastResponse forecast, LocalDate date, String currency) {
+        CashflowPeriodResponse period = forecast.periods().stream()
+                .filter(candidate -> !date.isBefore(candidate.start()) && !date.isAfter(candidate.end())).findFirst()
+                .orElseThrow();
+        return period.amounts().stream().filter(amount -> amount.currency().equals(currency)).findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should forecast inflows shifted by each customer's observed payment delay")
+    void shouldForecastInflowsWithObservedDelay() {
+        LocalDate today = LocalDate.now();
+        // Acme paid an installment 20 days late, Globex has no payment history
+        invoiceService.recordPayment(user.getId(), euroInvoiceId, longOverdueId, null,
+                new RecordPaymentRequest(new BigDecimal("300.00"), today.minusDays(25)));
+
+        CashflowForecastResponse forecast = receivablesReportService.getCashflowForecast(user.getId(), today,
+                today.plusDays(90), "week");
+
+        assertThat(forecast.granularity()).isEqualTo("week");
+        assertThat(forecast.periods()).allSatisfy(period -> {
+            assertThat(period.start().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+            assertThat(period.amounts()).extracting(CashflowAmountResponse::currency).containsExactly("EUR", "USD");
+        });
+        assertThat(expected(forecast, today, "EUR").expectedAmount()).isEqualByComparingTo("440.00");
+        assertThat(expected(forecast, today, "EUR").installmentCount()).isEqualTo(3);
+        assertThat(expected(forecast, today.plusDays(15), "EUR").expectedAmount()).isEqualByComparingTo("200.00");
+        assertThat(expected(forecast, today.plusDays(30), "EUR").expectedAmount()).isEqualByComparingTo("100.00");
+        assertThat(expected(forecast, today, "USD").expectedAmount()).isEqualByComparingTo("500.00");
+        assertThat(forecast.periods().stream().flatMap(period -> period.amounts().stream())
+                .filter(amount -> amount.currency().equals("EUR")).map(CashflowAmountResponse::expectedAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("740.00");
+    }
+
+    @Test
+    @DisplayName("Should leave out inflows expected after the forecast range")
+    void shouldLeaveOutInflowsAfterRange() {
+        LocalDate today = LocalDate.now();
+
+        CashflowForecastResponse forecast = receivablesReportService.getCashflowForecast(user.getId(), today,
+                today.plusDays(5), "month");
+
+        assertThat(forecast.periods().get(0).start()).isEqualTo(today.withDayOfMonth(1));
+        assertThat(forecast.periods().stream().flatMap(period -> period.amounts().stream())
+                .filter(amount -> amount.currency().equals("EUR")).mapToInt(CashflowAmountResponse::installmentCount)
+                .sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid forecast ranges and granularities")
+    void shouldRejectInvalidForecastParameters() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> receivablesReportService.getCashflowForecast(user.getId(), today,
+                today.minusDays(1), "month")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> receivablesReportService.getCashflowForecast(user.getId(), today,
+                today.plusYears(1), "day")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> receivablesReportService.getCashflowForecast(user.getId(), today,
+                today.plusYears(20), "week")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,6 +2,7 @@ package com.payhint.api.application.crm.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
@@ -16,8 +17,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.payhint.api.application.crm.dto.request.BulkRegisterUsersRequest;
 import com.payhint.api.application.crm.dto.request.LoginUserRequest;
 import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
+import com.payhint.api.application.crm.dto.response.BulkRegisterUsersResponse;
 import com.payhint.api.application.crm.dto.response.LoginResponse;
 import com.payhint.api.application.crm.dto.response.UserResponse;
 import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
@@ -30,7 +33,7 @@ import com.payhint.api.infrastructure.security.JwtTokenProvider;
 import jakarta.validation.ConstraintViolationException;
 
 @SpringBootTest
-@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:testdb",
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:testdb;MODE=PostgreSQL",
         "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
         "spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
         "spring.jpa.hibernate.ddl-auto=create-drop" })
@@ -578,4 +581,49 @@ class AuthenticationServiceIntegrationTest {
             assertThat(loginResponse.token()).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("Bulk Registration Integration Tests")
+    class BulkRegisterIntegrationTests {
+
+        @Test
+        @DisplayName("Should register all new users in one call")
+        void shouldRegisterAllNewUsers() {
+            BulkRegisterUsersRequest request = new BulkRegisterUsersRequest(List.of(
+                    new RegisterUserRequest("bulk.one@payhint.com", TEST_PASSWORD, "Bulk", "One"),
+                    new RegisterUserRequest("bulk.two@payhint.com", TEST_PASSWORD, "Bulk", "Two")));
+
+            BulkRegisterUsersResponse response = authenticationService.registerAll(request);
+
+            assertThat(response.created()).extracting(UserResponse::email)
+                    .containsExactly("bulk.one@payhint.com", "bulk.two@payhint.com");
+            assertThat(response.skipped()).isEmpty();
+            assertThat(userRepository.existsByEmail(new Email("bulk.two@payhint.com"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should skip existing and repeated emails")
+        void shouldSkipExistingAndRepeatedEmails() {
+            authenticationService
+                    .register(new RegisterUserRequest("bulk.existing@payhint.com", TEST_PASSWORD, "Bulk", "Existing"));
+
+            BulkRegisterUsersRequest request = new BulkRegisterUsersRequest(List.of(
+                    new RegisterUserRequest("BULK.EXISTING@payhint.com", TEST_PASSWORD, "Bulk", "Again"),
+                    new RegisterUserRequest("bulk.new@payhint.com", TEST_PASSWORD, "Bulk", "New"),
+                    new RegisterUserRequest("bulk.new@payhint.com", TEST_PASSWORD, "Bulk", "Twice")));
+
+            BulkRegisterUsersResponse response = authenticationService.registerAll(request);
+
+            assertThat(response.created()).extracting(UserResponse::email).containsExactly("bulk.new@payhint.com");
+            assertThat(response.skipped()).containsExactlyInAnyOrder("bulk.existing@payhint.com",
+                    "bulk.new@payhint.com");
+        }
+
+        @Test
+        @DisplayName("Should reject an empty batch")
+        void shouldRejectEmptyBatch() {
+            assertThatThrownBy(() -> authenticationService.registerAll(new BulkRegisterUsersRequest(List.of())))
+                    .isInstanceOf(ConstraintViolationException.class);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.payhint.api.application.crm.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,12 +17,27 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.service.InvoiceService;
 import com.payhint.api.application.crm.dto.request.CreateCustomerRequest;
 import com.payhint.api.application.crm.dto.request.UpdateCustomerRequest;
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.dto.response.CustomerPaymentStatisticsResponse;
 import com.payhint.api.application.crm.dto.response.CustomerResponse;
+import com.payhint.api.application.crm.dto.response.CustomerSummaryResponse;
 import com.payhint.api.application.shared.exceptions.AlreadyExistsException;
 import com.payhint.api.application.shared.exceptions.NotFoundException;
 import com.payhint.api.application.shared.exceptions.PermissionDeniedException;
+import com.payhint.api.application.shared.exceptions.PreconditionFailedException;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.model.Payment;
+import com.payhint.api.domain.billing.repository.CustomerPaymentStatisticsRepository;
+import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.repository.PaymentRepository;
+import com.payhint.api.domain.billing.valueobjects.InvoiceReference;
+import com.payhint.api.domain.billing.valueobjects.Money;
 import com.payhint.api.domain.crm.model.Customer;
 import com.payhint.api.domain.crm.model.User;
 import com.payhint.api.domain.crm.repository.CustomerRepository;
@@ -30,7 +47,7 @@ import com.payhint.api.domain.crm.valueobjects.Email;
 import com.payhint.api.domain.crm.valueobjects.UserId;
 
 @SpringBootTest
-@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:testdb",
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:testdb;MODE=PostgreSQL",
         "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
         "spring.datasource.password=", "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
         "spring.jpa.hibernate.ddl-auto=create-drop" })
@@ -47,6 +64,21 @@ class CustomerServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private CustomerPaymentStatisticsRepository customerPaymentStatisticsRepository;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
     private static final String TEST_USER_EMAIL = "testuser@payhint.com";
     private static final String TEST_USER_PASSWORD = "Password123!";
     private static final String TEST_USER_FIRST_NAME = "Test";
@@ -116,6 +148,18 @@ class CustomerServiceIntegrationTest {
                     .hasMessageContaining("A customer with the same company name already exists for this user.");
         }
 
+        @Test
+        @DisplayName("Should throw AlreadyExistsException when the name is still held by a deleted customer")
+        void shouldThrowAlreadyExistsExceptionWhenNameHeldByDeletedCustomer() {
+            CreateCustomerRequest request = new CreateCustomerRequest(TEST_COMPANY_NAME, TEST_CONTACT_EMAIL);
+            CustomerId customerId = CustomerId.fromString(customerService.createCustomer(testUserId, request).id());
+            customerService.deleteCustomer(testUserId, customerId);
+
+            assertThatThrownBy(() -> customerService.createCustomer(testUserId, request))
+                    .isInstanceOf(AlreadyExistsException.class)
+                    .hasMessageContaining("A customer with the same company name already exists for this user.");
+        }
+
         @Test
         @DisplayName("Should allow same company name for different users")
         void shouldAllowSameCompanyNameForDifferentUsers() {
@@ -187,6 +231,16 @@ class CustomerServiceIntegrationTest {
             assertThat(updatedCustomer.getCompanyName()).isEqualTo(newCompanyName);
         }
 
+        @Test
+        @DisplayName("Should reject update when the expected version is stale")
+        void shouldRejectUpdateWithStaleVersion() {
+            UpdateCustomerRequest request = new UpdateCustomerRequest("Updated Company Name", null);
+            Long staleVersion = existingCustomer.getVersion() + 1;
+
+            assertThatThrownBy(() -> customerService.updateCustomerDetails(testUserId, existingCustomer.getId(),
+                    staleVersion, request)).isInstanceOf(PreconditionFailedException.class);
+        }
+
         @Test
         @DisplayName("Should successfully update customer contact email")
         void shouldUpdateCustomerContactEmail() {
@@ -301,9 +355,12 @@ class CustomerServiceIntegrationTest {
         void shouldDeleteCustomerSuccessfully() {
             CustomerId customerId = existingCustomer.getId();
 
-            customerService.deleteCustomer(testUserId, customerId);
+            CustomerDeletionResponse deletion = customerService.deleteCustomer(testUserId, customerId);
 
+            assertThat(deletion.status()).isEqualTo("PENDING");
             assertThat(customerRepository.findById(customerId)).isEmpty();
+            assertThat(customerService.getCustomerDeletion(testUserId, customerId).customerId())
+                    .isEqualTo(customerId.toString());
         }
 
         @Test
@@ -607,4 +664,258 @@ class CustomerServiceIntegrationTest {
             assertThat(updatedCustomer.getUpdatedAt()).isAfter(updatedCustomer.getCreatedAt());
         }
     }
+
+    @Nested
+    @DisplayName("Owner-Scoped Access Integration Tests")
+    class OwnerScopedAccessIntegrationTests {
+
+        private Customer foreign;
+
+        @BeforeEach
+        void setUp() {
+            User anotherUser = userRepository
+                    .register(new User(new Email("owner@payhint.com"), "Password123!", "Other", "Owner"));
+            foreign = customerRepository
+                    .save(new Customer(anotherUser.getId(), "Foreign Corp", new Email("foreign@corp.com")));
+        }
+
+        @Test
+        @DisplayName("Should deny every scoped operation on another user's customer and leave it untouched")
+        void shouldDenyForeignCustomer() {
+            CustomerId foreignId = foreign.getId();
+            UpdateCustomerRequest request = new UpdateCustomerRequest("Hijacked", "hijacked@corp.com");
+
+            assertThatThrownBy(() -> customerService.viewCustomerProfile(testUserId, foreignId))
+                    .isInstanceOf(PermissionDeniedException.class);
+            assertThatThrownBy(() -> customerService.updateCustomerDetails(testUserId, foreignId, request))
+                    .isInstanceOf(PermissionDeniedException.class);
+            assertThatThrownBy(() -> customerService.updateCustomerDetails(testUserId, foreignId,
+                    foreign.getVersion(), request)).isInstanceOf(PermissionDeniedException.class);
+            assertThatThrownBy(() -> customerService.deleteCustomer(testUserId, foreignId))
+                    .isInstanceOf(PermissionDeniedException.class);
+
+            Customer stored = customerRepository.findById(foreignId).orElseThrow();
+            assertThat(stored.getCompanyName()).isEqualTo("Foreign Corp");
+            assertThat(stored.getContactEmail().value()).isEqualTo("foreign@corp.com");
+        }
+
+        @Test
+        @DisplayName("Should report a missing customer as not found rather than forbidden")
+        void shouldReportMissingCustomerAsNotFound() {
+            CustomerId missingId = new CustomerId(UUID.randomUUID());
+            UpdateCustomerRequest request = new UpdateCustomerRequest("Renamed", null);
+
+            assertThatThrownBy(() -> customerService.viewCustomerProfile(testUserId, missingId))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("Customer not found.");
+            assertThatThrownBy(() -> customerService.updateCustomerDetails(testUserId, missingId, request))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("Customer not found.");
+            assertThatThrownBy(() -> customerService.deleteCustomer(testUserId, missingId))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("Customer not found.");
+        }
+
+        @Test
+        @DisplayName("Should hide the owner's own customer once it is deleted")
+        void shouldHideDeletedCustomerFromOwner() {
+            Customer own = customerRepository
+                    .save(new Customer(testUserId, TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+            customerService.deleteCustomer(testUserId, own.getId());
+
+            assertThatThrownBy(() -> customerService.viewCustomerProfile(testUserId, own.getId()))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should tell an unknown user apart from a user without customers")
+        void shouldDistinguishUnknownUserFromEmptyList() {
+            assertThat(customerService.listAllCustomers(testUserId)).isEmpty();
+            assertThatThrownBy(() -> customerService.listAllCustomers(new UserId(UUID.randomUUID())))
+                    .isInstanceOf(NotFoundException.class).hasMessageContaining("User does not exist.");
+        }
+    }
+
+    @Nested
+    @DisplayName("Customer Summary Integration Tests")
+    class CustomerSummaryIntegrationTests {
+
+        private Customer customer;
+
+        @BeforeEach
+        void setUp() {
+            customer = customerRepository
+                    .save(new Customer(testUserId, TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+        }
+
+        private static Money money(String amount) {
+            return new Money(new BigDecimal(amount));
+        }
+
+        @Test
+        @DisplayName("Should return an empty summary for a customer without invoices")
+        void shouldReturnEmptySummaryForCustomerWithoutInvoices() {
+            CustomerSummaryResponse summary = customerService.getCustomerSummary(testUserId, customer.getId());
+
+            assertThat(summary.totalInvoiced()).isEqualByComparingTo("0");
+            assertThat(summary.outstanding()).isEqualByComparingTo("0");
+            assertThat(summary.overdueInstallmentCount()).isZero();
+            assertThat(summary.lastPaymentDate()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should keep the summary in step with persisted invoices, installments and payments")
+        void shouldMaintainSummaryIncrementally() {
+            Invoice invoice = invoiceRepository
+                    .save(new Invoice(customer.getId(), new InvoiceReference("INV-001"), money("1000.00"), "EUR"));
+            Installment overdue = installmentRepository.save(Installment.builder().invoiceId(invoice.getId())
+                    .amountDue(money("400.00")).dueDate(LocalDate.now().minusDays(10)).build());
+            installmentRepository.save(Installment.builder().invoiceId(invoice.getId()).amountDue(money("600.00"))
+                    .dueDate(LocalDate.now().plusDays(20)).build());
+
+            CustomerSummaryResponse beforePayment = customerService.getCustomerSummary(testUserId, customer.getId());
+            assertThat(beforePayment.totalInvoiced()).isEqualByComparingTo("1000.00");
+            assertThat(beforePayment.overdueAmount()).isEqualByComparingTo("400.00");
+            assertThat(beforePayment.overdueInstallmentCount()).isEqualTo(1);
+
+            Payment payment = new Payment(overdue.getId(), money("100.00"), LocalDate.now().minusDays(1));
+            overdue.addPayment(payment);
+            installmentRepository.save(overdue);
+            paymentRepository.save(payment);
+
+            CustomerSummaryResponse summary = customerService.getCustomerSummary(testUserId, customer.getId());
+            assertThat(summary.totalInvoiced()).isEqualByComparingTo("1000.00");
+            assertThat(summary.totalPaid()).isEqualByComparingTo("100.00");
+            assertThat(summary.outstanding()).isEqualByComparingTo("900.00");
+            assertThat(summary.overdueAmount()).isEqualByComparingTo("300.00");
+            assertThat(summary.overdueInstallmentCount()).isEqualTo(1);
+            assertThat(summary.lastPaymentDate()).isEqualTo(LocalDate.now().minusDays(1));
+
+            Invoice reloaded = invoiceRepository.findById(invoice.getId().value()).orElseThrow();
+            reloaded.updateInvoice(reloaded.getInvoiceReference(), money("1200.00"), "EUR");
+            invoiceRepository.save(reloaded);
+
+            assertThat(customerService.getCustomerSummary(testUserId, customer.getId()).outstanding())
+                    .isEqualByComparingTo("1100.00");
+        }
+
+        @Test
+        @DisplayName("Should only return summaries of the user's own customers")
+        void shouldOnlyReturnOwnSummaries() {
+            User anotherUser = userRepository
+                    .register(new User(new Email("anotheruser@payhint.com"), "Password123!", "Another", "User"));
+            Customer foreign = customerRepository
+                    .save(new Customer(anotherUser.getId(), "Foreign Corp", new Email("foreign@corp.com")));
+
+            List<CustomerSummaryResponse> summaries = customerService.getCustomerSummaries(testUserId,
+                    List.of(customer.getId(), foreign.getId()));
+
+            assertThat(summaries).extracting(CustomerSummaryResponse::customerId)
+                    .containsExactly(customer.getId().toString());
+            assertThatThrownBy(() -> customerService.getCustomerSummary(testUserId, foreign.getId()))
+                    .isInstanceOf(PermissionDeniedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Customer Payment Statistics Integration Tests")
+    class CustomerPaymentStatisticsIntegrationTests {
+
+        private Customer customer;
+
+        @BeforeEach
+        void setUp() {
+            customer = customerRepository
+                    .save(new Customer(testUserId, TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+        }
+
+        private static Money money(String amount) {
+            return new Money(new BigDecimal(amount));
+        }
+
+        private Installment installment(Invoice invoice, String amountDue, LocalDate dueDate) {
+            return installmentRepository.save(Installment.builder().invoiceId(invoice.getId())
+                    .amountDue(money(amountDue)).dueDate(dueDate).build());
+        }
+
+        @Test
+        @DisplayName("Should return empty statistics for a customer without payments")
+        void shouldReturnEmptyStatisticsWithoutPayments() {
+            CustomerPaymentStatisticsResponse statistics = customerService.getCustomerPaymentStatistics(testUserId,
+                    customer.getId());
+
+            assertThat(statistics.customerId()).isEqualTo(customer.getId().toString());
+            assertThat(statistics.paymentCount()).isZero();
+            assertThat(statistics.meanDaysLate()).isEqualByComparingTo("0");
+            assertThat(statistics.onTimeRatio()).isEqualByComparingTo("0");
+        }
+
+        @Test
+        @DisplayName("Should seed from earlier payments and fold in each newly recorded payment")
+        void shouldMaintainStatisticsIncrementally() {
+            LocalDate today = LocalDate.now();
+            Invoice invoice = invoiceRepository
+                    .save(new Invoice(customer.getId(), new InvoiceReference("INV-001"), money("300.00"), "EUR"));
+            Installment paidLate = installment(invoice, "100.00", today.plusDays(5));
+            Installment paidOnDueDate = installment(invoice, "100.00", today.plusDays(10));
+            Installment paidEarly = installment(invoice, "100.00", today.plusDays(20));
+
+            // recorded before statistics were kept, so it only reaches them through the one-off seed
+            Payment legacy = new Payment(paidLate.getId(), money("100.00"), today.plusDays(15));
+            paidLate.addPayment(legacy);
+            installmentRepository.save(paidLate);
+            paymentRepository.save(legacy);
+
+            invoiceService.recordPayment(testUserId, invoice.getId(), paidOnDueDate.getId(), null,
+                    new RecordPaymentRequest(new BigDecimal("100.00"), today.plusDays(10)));
+            invoiceService.recordPayment(testUserId, invoice.getId(), paidEarly.getId(), null,
+                    new RecordPaymentRequest(new BigDecimal("50.00"), today.plusDays(5)));
+
+            CustomerPaymentStatisticsResponse statistics = customerService.getCustomerPaymentStatistics(testUserId,
+                    customer.getId());
+            assertThat(statistics.paymentCount()).isEqualTo(3);
+            assertThat(statistics.meanDaysLate()).isEqualByComparingTo("3.33");
+            assertThat(statistics.medianDaysLate()).isEqualByComparingTo("0.00");
+            assertThat(statistics.daysLateStandardDeviation()).isEqualByComparingTo("5.77");
+            assertThat(statistics.onTimeRatio()).isEqualByComparingTo("0.6667");
+            assertThat(statistics.daysSalesOutstanding()).isEqualByComparingTo("11.00");
+        }
+
+        @Test
+        @DisplayName("Should persist the seed on first read instead of replaying history on every read")
+        void shouldPersistSeedOnFirstRead() {
+            LocalDate today = LocalDate.now();
+            Invoice invoice = invoiceRepository
+                    .save(new Invoice(customer.getId(), new InvoiceReference("INV-001"), money("200.00"), "EUR"));
+            Installment first = installment(invoice, "100.00", today.plusDays(5));
+            Installment second = installment(invoice, "100.00", today.plusDays(10));
+            Payment legacy = new Payment(first.getId(), money("100.00"), today.plusDays(5));
+            first.addPayment(legacy);
+            installmentRepository.save(first);
+            paymentRepository.save(legacy);
+
+            assertThat(customerService.getCustomerPaymentStatistics(testUserId, customer.getId()).paymentCount())
+                    .isEqualTo(1);
+
+            // written behind the statistics, so only a replay of the history would count it
+            Payment unseen = new Payment(second.getId(), money("100.00"), today.plusDays(10));
+            second.addPayment(unseen);
+            installmentRepository.save(second);
+            paymentRepository.save(unseen);
+
+            assertThat(customerService.getCustomerPaymentStatistics(testUserId, customer.getId()).paymentCount())
+                    .isEqualTo(1);
+            assertThat(customerPaymentStatisticsRepository.findByCustomerId(customer.getId()).getVersion())
+                    .isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should deny access to another user's customer statistics")
+        void shouldDenyForeignCustomerStatistics() {
+            User anotherUser = userRepository
+                    .register(new User(new Email("anotheruser@payhint.com"), "Password123!", "Another", "User"));
+            Customer foreign = customerRepository
+                    .save(new Customer(anotherUser.getId(), "Foreign Corp", new Email("foreign@corp.com")));
+
+            assertThatThrownBy(() -> customerService.getCustomerPaymentStatistics(testUserId, foreign.getId()))
+                    .isInstanceOf(PermissionDeniedException.class);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.payhint.api.domain.billing.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+@DisplayName("CustomerPaymentStatistics Domain Model Tests")
+class CustomerPaymentStatisticsTest {
+
+    private static final LocalDate ISSUE_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DUE_DATE = LocalDate.of(2025, 1, 31);
+
+    private CustomerPaymentStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CustomerPaymentStatistics(new CustomerId(UUID.randomUUID()));
+    }
+
+    private static Money money(String amount) {
+        return new Money(new BigDecimal(amount));
+    }
+
+    private void recordDaysLate(long daysLate) {
+        statistics.record(ISSUE_DATE, DUE_DATE, DUE_DATE.plusDays(daysLate), money("100.00"));
+    }
+
+    @Nested
+    @DisplayName("Days Late Tests")
+    class DaysLateTests {
+
+        @Test
+        @DisplayName("Should report zeros before any payment is recorded")
+        void shouldStartEmpty() {
+            assertThat(statistics.getPaymentCount()).isZero();
+            assertThat(statistics.getMeanDaysLate()).isZero();
+            assertThat(statistics.getMedianDaysLate()).isZero();
+            assertThat(statistics.getDaysLateVariance()).isZero();
+            assertThat(statistics.getOnTimeRatio()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count early payments as zero days late")
+        void shouldClampEarlyPayments() {
+            statistics.record(ISSUE_DATE, DUE_DATE, DUE_DATE.minusDays(7), money("100.00"));
+
+            assertThat(statistics.getMeanDaysLate()).isZero();
+            assertThat(statistics.getOnTimeRatio()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should match the two-pass mean and sample variance")
+        void shouldMatchTwoPassMeanAndVariance() {
+            long[] samples = { 0, 3, 12, 45, 7, 0, 90, 1 };
+            for (long sample : samples) {
+                recordDaysLate(sample);
+            }
+
+            double mean = 0;
+            for (long sample : samples) {
+                mean += sample;
+            }
+            mean /= samples.length;
+            double squares = 0;
+            for (long sample : samples) {
+                squares += (sample - mean) * (sample - mean);
+            }
+
+            assertThat(statistics.getMeanDaysLate()).isCloseTo(mean, within(1e-9));
+            assertThat(statistics.getDaysLateVariance()).isCloseTo(squares / (samples.length - 1), within(1e-9));
+            assertThat(statistics.getOnTimeRatio()).isEqualTo(2.0 / samples.length);
+        }
+
+        @Test
+        @DisplayName("Should report the exact median while only a few payments are known")
+        void shouldReportExactMedianForFewSamples() {
+            recordDaysLate(9);
+            recordDaysLate(1);
+            assertThat(statistics.getMedianDaysLate()).isEqualTo(5.0);
+
+            recordDaysLate(4);
+            assertThat(statistics.getMedianDaysLate()).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Should estimate the median of a large history in constant space")
+        void shouldEstimateMedianOfLargeHistory() {
+            List<Long> samples = new ArrayList<>();
+            for (long day = 0; day <= 1000; day++) {
+                samples.add(day);
+            }
+            Collections.shuffle(samples, new Random(42));
+            samples.forEach(CustomerPaymentStatisticsTest.this::recordDaysLate);
+
+            assertThat(statistics.getPaymentCount()).isEqualTo(1001);
+            assertThat(statistics.getMedianMarkerHeights()).hasSize(CustomerPaymentStatistics.MEDIAN_MARKERS);
+            assertThat(statistics.getMedianDaysLate()).isCloseTo(500.0, within(25.0));
+            assertThat(statistics.getMedianMarkerHeights()[0]).isZero();
+            assertThat(statistics.getMedianMarkerHeights()[4]).isEqualTo(1000.0);
+        }
+
+        @Test
+        @DisplayName("Should continue from a restored state exactly as from the original")
+        void shouldContinueFromRestoredState() {
+            for (long day = 0; day < 20; day++) {
+                recordDaysLate(day * 3 % 17);
+            }
+            CustomerPaymentStatistics restored = CustomerPaymentStatistics.builder()
+                    .customerId(statistics.getCustomerId()).paymentCount(statistics.getPaymentCount())
+                    .onTimeCount(statistics.getOnTimeCount()).meanDaysLate(statistics.getMeanDaysLate())
+                    .daysLateSquaredDeviations(statistics.getDaysLateSquaredDeviations())
+                    .medianMarkerHeights(statistics.getMedianMarkerHeights().clone())
+                    .medianMarkerPositions(statistics.getMedianMarkerPositions().clone())
+                    .collectedWeight(statistics.getCollectedWeight())
+                    .daysSalesOutstanding(statistics.getDaysSalesOutstanding()).build();
+
+            recordDaysLate(30);
+            restored.record(ISSUE_DATE, DUE_DATE, DUE_DATE.plusDays(30), money("100.00"));
+
+            assertThat(restored.getMeanDaysLate()).isEqualTo(statistics.getMeanDaysLate());
+            assertThat(restored.getMedianDaysLate()).isEqualTo(statistics.getMedianDaysLate());
+            assertThat(restored.getDaysLateVariance()).isEqualTo(statistics.getDaysLateVariance());
+        }
+    }
+
+    @Nested
+    @DisplayName("Days Sales Outstanding Tests")
+    class DaysSalesOutstandingTests {
+
+        @Test
+        @DisplayName("Should weight days to collect by the amount collected")
+        void shouldWeightByAmount() {
+            statistics.record(ISSUE_DATE, DUE_DATE, ISSUE_DATE.plusDays(10), money("300.00"));
+            statistics.record(ISSUE_DATE, DUE_DATE, ISSUE_DATE.plusDays(50), money("100.00"));
+
+            assertThat(statistics.getDaysSalesOutstanding()).isCloseTo(20.0, within(1e-9));
+            assertThat(statistics.getCollectedWeight()).isEqualTo(400.0);
+        }
+
+        @Test
+        @DisplayName("Should reject a payment without dates")
+        void shouldRejectMissingDates() {
+            assertThatThrownBy(() -> statistics.record(null, DUE_DATE, DUE_DATE, money("10.00")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(statistics.getPaymentCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.payhint.api.domain.billing.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.payhint.api.domain.billing.exceptions.InvalidMoneyValueException;
+import com.payhint.api.domain.billing.valueobjects.InstallmentId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceId;
+import com.payhint.api.domain.billing.valueobjects.InvoiceReference;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+
+@DisplayName("Invoice Domain Model Tests")
+class InvoiceTest {
+
+    private static final InvoiceId INVOICE_ID = new InvoiceId(UUID.randomUUID());
+
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        invoice = Invoice.builder().id(INVOICE_ID).customerId(new CustomerId(UUID.randomUUID()))
+                .invoiceReference(new InvoiceReference("INV-001")).totalAmount(money("1000.00")).currency("EUR")
+                .build();
+    }
+
+    private static Money money(String amount) {
+        return new Money(new BigDecimal(amount));
+    }
+
+    private static Installment installment(String amountDue) {
+        return Installment.builder().id(new InstallmentId(UUID.randomUUID())).invoiceId(INVOICE_ID)
+                .amountDue(money(amountDue)).dueDate(LocalDate.now().plusDays(30)).build();
+    }
+
+    @Nested
+    @DisplayName("Running Totals Tests")
+    class RunningTotalsTests {
+
+        @Test
+        @DisplayName("Should start with zero running totals")
+        void shouldStartWithZeroTotals() {
+            assertThat(invoice.getTotalPaid()).isEqualTo(Money.ZERO);
+            assertThat(invoice.getTotalScheduled()).isEqualTo(Money.ZERO);
+            assertThat(invoice.getRemainingAmount()).isEqualTo(money("1000.00"));
+        }
+
+        @Test
+        @DisplayName("Should accumulate scheduled amounts as installments are added")
+        void shouldAccumulateScheduledAmounts() {
+            invoice.addInstallment(installment("250.00"));
+            invoice.addInstallment(installment("250.00"));
+
+            assertThat(invoice.getTotalScheduled()).isEqualTo(money("500.00"));
+            assertThat(invoice.getTotalPaid()).isEqualTo(Money.ZERO);
+        }
+
+        @Test
+        @DisplayName("Should accumulate paid amounts as payments are recorded")
+        void shouldAccumulatePaidAmounts() {
+            Installment first = installment("600.00");
+            Installment second = installment("400.00");
+            invoice.addInstallment(first);
+            invoice.addInstallment(second);
+
+            invoice.addPaymentToInstallment(first, new Payment(first.getId(), money("600.00"), LocalDate.now()));
+            invoice.addPaymentToInstallment(second, new Payment(second.getId(), money("150.00"), LocalDate.now()));
+
+            assertThat(invoice.getTotalPaid()).isEqualTo(money("750.00"));
+            assertThat(invoice.getRemainingAmount()).isEqualTo(money("250.00"));
+            assertThat(invoice.isFullyPaid()).isFalse();
+
+            invoice.addPaymentToInstallment(second, new Payment(second.getId(), money("250.00"), LocalDate.now()));
+
+            assertThat(invoice.isFullyPaid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject lowering the total below the running paid amount")
+        void shouldRejectTotalBelowPaid() {
+            Installment first = installment("600.00");
+            invoice.addInstallment(first);
+            invoice.addPaymentToInstallment(first, new Payment(first.getId(), money("600.00"), LocalDate.now()));
+
+            assertThatThrownBy(() -> invoice.updateInvoice(invoice.getInvoiceReference(), money("500.00"), "EUR"))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject payments larger than the installment's remaining amount")
+        void shouldRejectOverpayment() {
+            Installment first = installment("100.00");
+            invoice.addInstallment(first);
+
+            assertThatThrownBy(() -> invoice.addPaymentToInstallment(first,
+                    new Payment(first.getId(), money("100.01"), LocalDate.now())))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+            assertThat(invoice.getTotalPaid()).isEqualTo(Money.ZERO);
+        }
+    }
+}
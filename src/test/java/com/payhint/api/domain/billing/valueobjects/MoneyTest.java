@@ -0,0 +1,135 @@
+package com.payhint.api.domain.billing.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.payhint.api.domain.billing.exceptions.InvalidMoneyValueException;
+
+@DisplayName("Money Value Object Tests")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("Money Creation Tests")
+    class MoneyCreationTests {
+
+        @Test
+        @DisplayName("Should store amounts as minor units with the default scale")
+        void shouldStoreMinorUnits() {
+            Money money = new Money(new BigDecimal("1200.5"));
+
+            assertThat(money.minorUnits()).isEqualTo(120050L);
+            assertThat(money.scale()).isEqualTo(Money.DEFAULT_SCALE);
+            assertThat(money.amount()).isEqualByComparingTo("1200.50");
+        }
+
+        @Test
+        @DisplayName("Should reject amounts more precise than the stored scale")
+        void shouldRejectPrecisionBeyondStoredScale() {
+            assertThatThrownBy(() -> new Money(new BigDecimal("0.125"))).isInstanceOf(InvalidMoneyValueException.class);
+            assertThatThrownBy(() -> Money.ofMinor(125L, 3)).isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @ParameterizedTest
+        @CsvSource({ "EUR, 2", "JPY, 0", "BHD, 2", "XXX, 2", "NOPE, 2" })
+        @DisplayName("Should derive the scale from the currency")
+        void shouldDeriveScaleFromCurrency(String currency, int expectedScale) {
+            assertThat(Money.scaleOf(currency)).isEqualTo(expectedScale);
+        }
+
+        @Test
+        @DisplayName("Should reject amounts more precise than the currency allows")
+        void shouldRejectAmountsTooPreciseForCurrency() {
+            assertThat(Money.of(new BigDecimal("1500.00"), "JPY").minorUnits()).isEqualTo(1500L);
+            assertThatThrownBy(() -> Money.of(new BigDecimal("1500.50"), "JPY"))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject null and negative amounts")
+        void shouldRejectNullAndNegativeAmounts() {
+            assertThatThrownBy(() -> new Money(null)).isInstanceOf(InvalidMoneyValueException.class);
+            assertThatThrownBy(() -> new Money(new BigDecimal("-0.01"))).isInstanceOf(InvalidMoneyValueException.class);
+            assertThatThrownBy(() -> Money.ofMinor(-1L, 2)).isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject amounts that do not fit in a long")
+        void shouldRejectOversizedAmounts() {
+            assertThatThrownBy(() -> new Money(new BigDecimal("100000000000000000000")))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Money Arithmetic Tests")
+    class MoneyArithmeticTests {
+
+        @Test
+        @DisplayName("Should add and subtract amounts of the same scale")
+        void shouldAddAndSubtract() {
+            Money total = Money.ofMinor(10_000L, 2).add(Money.ofMinor(2_550L, 2));
+
+            assertThat(total).isEqualTo(Money.ofMinor(12_550L, 2));
+            assertThat(total.subtract(Money.ofMinor(550L, 2)).amount()).isEqualByComparingTo("120.00");
+        }
+
+        @Test
+        @DisplayName("Should align scales before combining amounts")
+        void shouldAlignScales() {
+            Money sum = Money.ofMinor(1_500L, 0).add(Money.ofMinor(25L, 2));
+
+            assertThat(sum.scale()).isEqualTo(2);
+            assertThat(sum.minorUnits()).isEqualTo(150_025L);
+            assertThat(Money.ofMinor(1_500L, 0).compareTo(Money.ofMinor(150_000L, 2))).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject a negative subtraction result")
+        void shouldRejectNegativeResult() {
+            assertThatThrownBy(() -> Money.ofMinor(100L, 2).subtract(Money.ofMinor(101L, 2)))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should detect overflow instead of wrapping around")
+        void shouldDetectOverflow() {
+            assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE, 2).add(Money.ofMinor(1L, 2)))
+                    .isInstanceOf(InvalidMoneyValueException.class).hasMessageContaining("overflow");
+            assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE, 0).toMinorUnits(2))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+
+        @Test
+        @DisplayName("Should refuse to drop precision when rescaling down")
+        void shouldRefuseLossyRescale() {
+            assertThat(Money.ofMinor(150_000L, 2).toMinorUnits(0)).isEqualTo(1_500L);
+            assertThatThrownBy(() -> Money.ofMinor(150_025L, 2).toMinorUnits(0))
+                    .isInstanceOf(InvalidMoneyValueException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Money Equality Tests")
+    class MoneyEqualityTests {
+
+        @Test
+        @DisplayName("Should treat numerically equal amounts as equal regardless of scale")
+        void shouldCompareNumerically() {
+            Money euros = Money.ofMinor(1_000L, 2);
+            Money whole = Money.ofMinor(10L, 0);
+
+            assertThat(euros).isEqualTo(whole);
+            assertThat(euros.hashCode()).isEqualTo(whole.hashCode());
+            assertThat(Money.ZERO).isEqualTo(Money.zero(0));
+            assertThat(Money.ZERO.isZero()).isTrue();
+        }
+    }
+}
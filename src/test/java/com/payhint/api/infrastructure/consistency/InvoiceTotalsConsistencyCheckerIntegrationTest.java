@@ -0,0 +1,104 @@
+package com.payhint.api.infrastructure.consistency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.entity.CustomerJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.consistency.invoice-totals.chunk-size=1")
+@Transactional
+@DisplayName("InvoiceTotalsConsistencyChecker Integration Tests")
+class InvoiceTotalsConsistencyCheckerIntegrationTest {
+
+    @Autowired
+    private InvoiceTotalsConsistencyChecker checker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    private CustomerJpaEntity customer;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.register(new User(new Email("checker@payhint.com"), "Password123!", "John", "Doe"));
+        Customer saved = customerRepository.save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+        customer = customerSpringRepository.findById(saved.getId().value()).orElseThrow();
+    }
+
+    private InvoiceJpaEntity invoice(String reference, String totalPaid, String totalScheduled) {
+        InvoiceJpaEntity invoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder().customer(customer)
+                .invoiceReference(reference).totalAmount(new BigDecimal("1000.00"))
+                .totalPaid(new BigDecimal(totalPaid)).totalScheduled(new BigDecimal(totalScheduled)).currency("EUR")
+                .build());
+        installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(invoice)
+                .amountDue(new BigDecimal("400.00")).amountPaid(new BigDecimal("150.00"))
+                .dueDate(LocalDate.now().plusDays(30)).build());
+        return invoice;
+    }
+
+    @Test
+    @DisplayName("Should leave consistent invoices untouched")
+    void shouldLeaveConsistentInvoicesUntouched() {
+        InvoiceJpaEntity consistent = invoice("INV-001", "150.00", "400.00");
+        invoiceSpringRepository.save(InvoiceJpaEntity.builder().customer(customer).invoiceReference("INV-002")
+                .totalAmount(new BigDecimal("10.00")).currency("EUR").build());
+        invoiceSpringRepository.flush();
+        long version = consistent.getVersion();
+
+        assertThat(checker.check()).isZero();
+        assertThat(invoiceSpringRepository.findById(consistent.getId()).orElseThrow().getVersion())
+                .isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Should repair drifted running totals and bump the version")
+    void shouldRepairDriftedTotals() {
+        invoice("INV-001", "150.00", "400.00");
+        InvoiceJpaEntity drifted = invoice("INV-002", "0.00", "0.00");
+        invoiceSpringRepository.flush();
+        long version = drifted.getVersion();
+
+        assertThat(checker.check()).isEqualTo(1);
+
+        InvoiceJpaEntity repaired = invoiceSpringRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(repaired.getTotalPaid()).isEqualByComparingTo("150.00");
+        assertThat(repaired.getTotalScheduled()).isEqualByComparingTo("400.00");
+        assertThat(repaired.getVersion()).isEqualTo(version + 1);
+        assertThat(checker.check()).isZero();
+    }
+}
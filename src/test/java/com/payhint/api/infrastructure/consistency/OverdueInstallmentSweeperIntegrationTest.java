@@ -0,0 +1,107 @@
+package com.payhint.api.infrastructure.consistency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.billing.model.PaymentStatus;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.consistency.overdue-installments.chunk-size=2")
+@Transactional
+@DisplayName("OverdueInstallmentSweeper Integration Tests")
+class OverdueInstallmentSweeperIntegrationTest {
+
+    @Autowired
+    private OverdueInstallmentSweeper sweeper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    private InvoiceJpaEntity invoice;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.register(new User(new Email("sweeper@payhint.com"), "Password123!", "John", "Doe"));
+        Customer customer = customerRepository
+                .save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+        invoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                .customer(customerSpringRepository.findById(customer.getId().value()).orElseThrow())
+                .invoiceReference("INV-001").totalAmount(new BigDecimal("1000.00")).currency("EUR").build());
+    }
+
+    private InstallmentJpaEntity installment(LocalDate dueDate, PaymentStatus status) {
+        return installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(invoice)
+                .amountDue(new BigDecimal("100.00")).dueDate(dueDate).status(status).build());
+    }
+
+    private PaymentStatus statusOf(InstallmentJpaEntity installment) {
+        return installmentSpringRepository.findById(installment.getId()).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("Should mark open installments past their due date as late across chunks")
+    void shouldMarkOverdueInstallmentsLate() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        InstallmentJpaEntity pending = installment(yesterday, PaymentStatus.PENDING);
+        InstallmentJpaEntity partiallyPaid = installment(yesterday.minusDays(10), PaymentStatus.PARTIALLY_PAID);
+        InstallmentJpaEntity alsoPending = installment(yesterday.minusDays(20), PaymentStatus.PENDING);
+        InstallmentJpaEntity paid = installment(yesterday, PaymentStatus.PAID);
+        InstallmentJpaEntity dueToday = installment(LocalDate.now(), PaymentStatus.PENDING);
+        installmentSpringRepository.flush();
+        long version = pending.getVersion();
+
+        assertThat(sweeper.sweep()).isEqualTo(3);
+
+        assertThat(statusOf(pending)).isEqualTo(PaymentStatus.LATE);
+        assertThat(statusOf(partiallyPaid)).isEqualTo(PaymentStatus.LATE);
+        assertThat(statusOf(alsoPending)).isEqualTo(PaymentStatus.LATE);
+        assertThat(statusOf(paid)).isEqualTo(PaymentStatus.PAID);
+        assertThat(statusOf(dueToday)).isEqualTo(PaymentStatus.PENDING);
+        assertThat(installmentSpringRepository.findById(pending.getId()).orElseThrow().getVersion())
+                .isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("Should be a no-op when run again")
+    void shouldBeIdempotent() {
+        installment(LocalDate.now().minusDays(1), PaymentStatus.PENDING);
+        installmentSpringRepository.flush();
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        assertThat(sweeper.sweep()).isZero();
+    }
+}
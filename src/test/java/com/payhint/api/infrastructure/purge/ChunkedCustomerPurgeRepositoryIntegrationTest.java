@@ -0,0 +1,128 @@
+package com.payhint.api.infrastructure.purge;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.payhint.api.application.crm.dto.response.CustomerDeletionResponse;
+import com.payhint.api.application.crm.service.CustomerService;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "application.purge.customers.chunk-size=1")
+@DisplayName("ChunkedCustomerPurgeRepository Integration Tests")
+class ChunkedCustomerPurgeRepositoryIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    @Autowired
+    private PaymentSpringRepository paymentSpringRepository;
+
+    private User user;
+    private Customer customer;
+    private Customer keptCustomer;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.register(new User(new Email("purger@payhint.com"), "Password123!", "John", "Doe"));
+        customer = customerRepository.save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+        keptCustomer = customerRepository.save(new Customer(user.getId(), "Globex", new Email("billing@globex.io")));
+
+        for (int i = 0; i < 2; i++) {
+            InvoiceJpaEntity invoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                    .customer(customerSpringRepository.findById(customer.getId().value()).orElseThrow())
+                    .invoiceReference("INV-" + i).totalAmount(new BigDecimal("300.00")).currency("EUR").build());
+            for (int j = 0; j < 2; j++) {
+                InstallmentJpaEntity installment = installmentSpringRepository.save(InstallmentJpaEntity.builder()
+                        .invoice(invoice).amountDue(new BigDecimal("150.00")).dueDate(LocalDate.of(2025, 1, 31))
+                        .build());
+                paymentSpringRepository.save(PaymentJpaEntity.builder().installment(installment)
+                        .amount(new BigDecimal("50.00")).paymentDate(LocalDate.of(2025, 1, 15)).build());
+            }
+        }
+        InvoiceJpaEntity keptInvoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                .customer(customerSpringRepository.findById(keptCustomer.getId().value()).orElseThrow())
+                .invoiceReference("INV-KEPT").totalAmount(new BigDecimal("100.00")).currency("EUR").build());
+        installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(keptInvoice)
+                .amountDue(new BigDecimal("100.00")).dueDate(LocalDate.of(2025, 2, 28)).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should purge the customer's billing graph in chunks after the deletion commits")
+    void shouldPurgeCustomerGraphInChunks() throws InterruptedException {
+        CustomerDeletionResponse accepted = customerService.deleteCustomer(user.getId(), customer.getId());
+        assertThat(accepted.status()).isIn("PENDING", "RUNNING", "COMPLETED");
+
+        CustomerDeletionResponse deletion = awaitCompletion();
+
+        assertThat(deletion.paymentsDeleted()).isEqualTo(4);
+        assertThat(deletion.installmentsDeleted()).isEqualTo(4);
+        assertThat(deletion.invoicesDeleted()).isEqualTo(2);
+        assertThat(deletion.finishedAt()).isNotNull();
+        assertThat(paymentSpringRepository.count()).isZero();
+        assertThat(installmentSpringRepository.count()).isEqualTo(1);
+        assertThat(invoiceSpringRepository.count()).isEqualTo(1);
+        assertThat(customerSpringRepository.findOwnerIdOfDeleted(customer.getId().value())).isEmpty();
+        assertThat(customerRepository.findById(keptCustomer.getId())).isPresent();
+    }
+
+    private CustomerDeletionResponse awaitCompletion() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            CustomerDeletionResponse deletion = customerService.getCustomerDeletion(user.getId(), customer.getId());
+            if (deletion.status().equals("COMPLETED")) {
+                return deletion;
+            }
+            assertThat(deletion.status()).isNotEqualTo("FAILED");
+            Thread.sleep(50);
+        }
+        return fail("Customer purge did not complete in time");
+    }
+}
@@ -0,0 +1,83 @@
+package com.payhint.api.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.valueobjects.CustomerId;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.domain.crm.valueobjects.UserId;
+
+@DisplayName("CustomerTrigramIndex Tests")
+class CustomerTrigramIndexTest {
+
+    private static final UserId USER_ID = new UserId(UUID.randomUUID());
+
+    private CustomerTrigramIndex index;
+    private Customer acme;
+    private Customer globex;
+    private Customer initech;
+
+    @BeforeEach
+    void setUp() {
+        index = new CustomerTrigramIndex();
+        acme = customer("Acme Corporation", "billing@acme.com");
+        globex = customer("Globex", "accounts@globex.io");
+        initech = customer("Initech Société", "contact@initech.fr");
+        index.put(acme);
+        index.put(globex);
+        index.put(initech);
+    }
+
+    private static Customer customer(String companyName, String contactEmail) {
+        return Customer.builder().id(new CustomerId(UUID.randomUUID())).userId(USER_ID).companyName(companyName)
+                .contactEmail(new Email(contactEmail)).build();
+    }
+
+    @Test
+    @DisplayName("Should rank prefix matches before substring matches, case and accent insensitive")
+    void shouldRankPrefixMatchesFirst() {
+        assertThat(index.search("AC", 10)).containsExactly(acme, globex, initech);
+        assertThat(index.search("societe", 10)).containsExactly(initech);
+    }
+
+    @Test
+    @DisplayName("Should match substrings of the contact email")
+    void shouldMatchBySubstring() {
+        assertThat(index.search("globex.io", 10)).containsExactly(globex);
+    }
+
+    @Test
+    @DisplayName("Should tolerate small typos")
+    void shouldTolerateTypos() {
+        assertThat(index.search("acne", 10)).containsExactly(acme);
+        assertThat(index.search("corporatoin", 10)).containsExactly(acme);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals incrementally")
+    void shouldApplyIncrementalChanges() {
+        Customer renamed = Customer.builder().id(globex.getId()).userId(USER_ID).companyName("Umbrella")
+                .contactEmail(new Email("accounts@umbrella.io")).build();
+        index.put(renamed);
+        index.remove(acme.getId());
+
+        assertThat(index.search("globex", 10)).isEmpty();
+        assertThat(index.search("umbrella", 10)).containsExactly(renamed);
+        assertThat(index.search("acme", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should compute prefix edit distance against candidate prefixes")
+    void shouldComputePrefixEditDistance() {
+        assertThat(CustomerTrigramIndex.prefixEditDistance("acm", "acme", 2)).isZero();
+        assertThat(CustomerTrigramIndex.prefixEditDistance("acne", "acme", 2)).isEqualTo(1);
+        assertThat(CustomerTrigramIndex.prefixEditDistance("zzzz", "acme", 1)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.payhint.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.payhint.api.application.shared.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should encode and match passwords through the hashing pool")
+    void shouldEncodeAndMatch() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+                Duration.ofSeconds(5), meterRegistry)) {
+            String hash = encoder.encode("Password123!");
+
+            assertThat(encoder.matches("Password123!", hash)).isTrue();
+            assertThat(encoder.matches("WrongPassword", hash)).isFalse();
+            assertThat(meterRegistry.get("security.password.hashing.duration").tag("operation", "encode").timer()
+                    .count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the pool and its queue are saturated")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BlockingPasswordEncoder(started, release);
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5),
+                meterRegistry)) {
+            callers.submit(() -> encoder.encode("first"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> encoder.encode("queued"));
+            waitForQueueDepth(1);
+
+            assertThatThrownBy(() -> encoder.encode("rejected")).isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("security.password.hashing.rejections").counter().count()).isEqualTo(1);
+
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delegate upgrade decisions to the configured BCrypt strength")
+    void shouldRequestUpgradeForWeakerHashes() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("Password123!");
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1,
+                Duration.ofSeconds(5), meterRegistry)) {
+            assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoder.encode("Password123!"))).isFalse();
+        }
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("security.password.hashing.queue.depth").gauge().value() < depth) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
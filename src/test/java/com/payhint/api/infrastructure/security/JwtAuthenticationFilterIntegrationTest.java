@@ -0,0 +1,106 @@
+package com.payhint.api.infrastructure.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("JwtAuthenticationFilter Integration Tests")
+class JwtAuthenticationFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.register(new User(new Email("versioned@payhint.com"), "Password123!", "Vera", "Sion"));
+    }
+
+    private String tokenWithVersion(long tokenVersion) {
+        return jwtTokenProvider.generateToken(
+                new UserPrincipal(user.getId().value(), user.getEmail().value(), null, null, tokenVersion));
+    }
+
+    private void expectCustomers(String token, ResultMatcher expected) throws Exception {
+        mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + token)).andExpect(expected);
+    }
+
+    @Test
+    @DisplayName("Should authenticate a token carrying the current version from its claims")
+    void shouldAuthenticateFromClaims() throws Exception {
+        expectCustomers(tokenWithVersion(0L), status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before the version was bumped")
+    void shouldRejectTokensAfterVersionBump() throws Exception {
+        String oldToken = tokenWithVersion(0L);
+        expectCustomers(oldToken, status().isOk());
+
+        tokenVersionRegistry.revokeAll(user.getId().value());
+
+        expectCustomers(oldToken, status().isForbidden());
+        expectCustomers(tokenWithVersion(1L), status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should notice a version bump once the account change event evicts the cached version")
+    void shouldRejectTokensAfterAccountChange() throws Exception {
+        String oldToken = tokenWithVersion(0L);
+        expectCustomers(oldToken, status().isOk());
+
+        userSpringRepository.incrementTokenVersion(user.getId().value());
+        userRepository.save(userRepository.findById(user.getId()).orElseThrow());
+
+        expectCustomers(oldToken, status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should reject a token claiming a version that was never issued")
+    void shouldRejectFutureVersion() throws Exception {
+        expectCustomers(tokenWithVersion(7L), status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should still accept a token without principal claims through the user lookup")
+    void shouldAcceptTokenWithoutClaims() throws Exception {
+        String legacyToken = jwtTokenProvider.generateToken(Map.of(),
+                new UserPrincipal(user.getId().value(), user.getEmail().value(), null, null));
+
+        expectCustomers(legacyToken, status().isOk());
+    }
+}
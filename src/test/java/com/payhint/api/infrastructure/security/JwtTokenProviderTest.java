@@ -0,0 +1,95 @@
+package com.payhint.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-with-sufficient-length-256-bits";
+    private static final String OTHER_SECRET = "another-secret-key-for-jwt-token-generation-with-sufficient-length-256";
+
+    private final UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "jwt-user@payhint.com", null, null,
+            3L);
+
+    private static JwtTokenProvider provider(String secret, long expirationMillis) {
+        return new JwtTokenProvider(secret, expirationMillis, 100);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated verification of the same token from the cache")
+    void shouldCacheVerifiedToken() {
+        JwtTokenProvider provider = provider(SECRET, 60_000);
+        String token = provider.generateToken(principal);
+
+        VerifiedToken first = provider.verify(token);
+
+        assertThat(provider.verify(token)).isSameAs(first);
+        assertThat(first.subject()).isEqualTo("jwt-user@payhint.com");
+        assertThat(first.userId()).isEqualTo(principal.getId());
+        assertThat(first.tokenVersion()).isEqualTo(3L);
+        assertThat(first.carriesPrincipal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop accepting a cached token once it expires")
+    void shouldExpireCachedToken() throws InterruptedException {
+        JwtTokenProvider provider = provider(SECRET, 1_000);
+        String token = provider.generateToken(principal);
+        assertThat(provider.verify(token).subject()).isEqualTo("jwt-user@payhint.com");
+
+        // expiry claims have second precision, so wait past the next full second
+        Thread.sleep(2_100);
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(provider.tryVerify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose signature was altered")
+    void shouldRejectTamperedSignature() {
+        JwtTokenProvider provider = provider(SECRET, 60_000);
+        String token = provider.generateToken(principal);
+        // flip a character inside the signature rather than the last one, whose low bits are only padding
+        int index = token.lastIndexOf('.') + 5;
+        String tampered = token.substring(0, index) + (token.charAt(index) == 'A' ? 'B' : 'A')
+                + token.substring(index + 1);
+
+        assertThatThrownBy(() -> provider.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(provider.tryVerify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a forged payload even after the genuine token was cached")
+    void shouldRejectTamperedPayloadAfterCaching() {
+        JwtTokenProvider provider = provider(SECRET, 60_000);
+        String token = provider.generateToken(principal);
+        provider.verify(token);
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("jwt-user@payhint.com", "attacker@payhint.com");
+        String forged = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> provider.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void shouldRejectForeignSignature() {
+        String token = provider(OTHER_SECRET, 60_000).generateToken(principal);
+
+        assertThat(provider(SECRET, 60_000).tryVerify(token)).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.payhint.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StripedTokenBuckets Tests")
+class StripedTokenBucketsTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should reject once the bucket is empty")
+    void shouldRejectOnceBucketIsEmpty() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 3, Duration.ofSeconds(3));
+
+        assertThat(buckets.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(buckets.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(buckets.tryAcquire("user@example.com", NOW)).isZero();
+        assertThat(buckets.tryAcquire("user@example.com", NOW)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens as time passes")
+    void shouldRefillTokensOverTime() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 2, Duration.ofSeconds(2));
+        buckets.tryAcquire("10.0.0.1", NOW);
+        buckets.tryAcquire("10.0.0.1", NOW);
+
+        assertThat(buckets.tryAcquire("10.0.0.1", NOW + 400)).isEqualTo(600L);
+        assertThat(buckets.tryAcquire("10.0.0.1", NOW + 1000)).isZero();
+        assertThat(buckets.tryAcquire("10.0.0.1", NOW + 1000)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should never refill beyond capacity after a long idle period")
+    void shouldCapRefillAtCapacity() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 2, Duration.ofSeconds(2));
+        buckets.tryAcquire("10.0.0.2", NOW);
+
+        long later = NOW + Duration.ofHours(1).toMillis();
+        assertThat(buckets.tryAcquire("10.0.0.2", later)).isZero();
+        assertThat(buckets.tryAcquire("10.0.0.2", later)).isZero();
+        assertThat(buckets.tryAcquire("10.0.0.2", later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reject capacities that do not fit the packed state")
+    void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> new StripedTokenBuckets(16, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedTokenBuckets(16, 70_000, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
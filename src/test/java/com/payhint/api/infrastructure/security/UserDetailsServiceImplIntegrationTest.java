@@ -0,0 +1,96 @@
+package com.payhint.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserDetailsServiceImpl Integration Tests")
+class UserDetailsServiceImplIntegrationTest {
+
+    private static final String EMAIL = "cached-user@payhint.com";
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.register(new User(new Email(EMAIL), "hashed-password", "Cache", "User"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache regardless of email case")
+    void shouldServeRepeatedLookupsFromCache() {
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        // written behind the adapter's back, so no invalidation event is published
+        userSpringRepository.updatePassword(EMAIL, "changed-behind-the-cache", LocalDateTime.now());
+
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL.toUpperCase());
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getPassword()).isEqualTo("hashed-password");
+    }
+
+    @Test
+    @DisplayName("Should reload the principal after the user is saved through the repository")
+    void shouldReloadAfterSave() {
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.changePassword("rotated-password");
+        userRepository.save(stored);
+
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).getPassword()).isEqualTo("rotated-password");
+    }
+
+    @Test
+    @DisplayName("Should forget a user deleted through an id-only reference")
+    void shouldForgetDeletedUser() {
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        userRepository.delete(User.builder().id(user.getId()).build());
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should drop the previous email's entry when the email changes")
+    void shouldDropPreviousEmailOnChange() {
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.updateProfile(new Email("renamed-user@payhint.com"), null, null);
+        userRepository.save(stored);
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(EMAIL))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(userDetailsService.loadUserByUsername("renamed-user@payhint.com").getUsername())
+                .isEqualTo("renamed-user@payhint.com");
+    }
+}
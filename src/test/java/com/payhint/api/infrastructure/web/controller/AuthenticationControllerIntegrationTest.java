@@ -1,6 +1,8 @@
 package com.payhint.api.infrastructure.web.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -16,8 +18,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.payhint.api.application.crm.dto.request.LoginUserRequest;
+import com.payhint.api.application.crm.dto.request.RefreshTokenRequest;
 import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
 import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
 
@@ -641,4 +645,84 @@ class AuthenticationControllerIntegrationTest {
                                         .andExpect(status().isOk());
                 }
         }
+
+        @Nested
+        @DisplayName("POST /api/auth/refresh and /api/auth/logout")
+        class RefreshEndpoint {
+
+                private JsonNode registerAndLogin(String email) throws Exception {
+                        RegisterUserRequest registerRequest = new RegisterUserRequest(email, "SecurePass123", "John",
+                                        "Doe");
+                        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(registerRequest)))
+                                        .andExpect(status().isCreated());
+
+                        String body = mockMvc
+                                        .perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                                                        .content(objectMapper.writeValueAsString(
+                                                                        new LoginUserRequest(email, "SecurePass123"))))
+                                        .andExpect(status().isOk()).andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                                        .andExpect(jsonPath("$.expiresIn").value(900)).andReturn().getResponse()
+                                        .getContentAsString();
+                        return objectMapper.readTree(body);
+                }
+
+                private String refresh(String refreshToken, int expectedStatus) throws Exception {
+                        return mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                                        .andExpect(status().is(expectedStatus)).andReturn().getResponse()
+                                        .getContentAsString();
+                }
+
+                @Test
+                @DisplayName("Should rotate the refresh token and issue a new access token")
+                void shouldRotateRefreshToken() throws Exception {
+                        JsonNode login = registerAndLogin("refresh.rotate@example.com");
+
+                        JsonNode refreshed = objectMapper.readTree(refresh(login.get("refreshToken").asText(), 200));
+
+                        assertThat(refreshed.get("token").asText()).isNotBlank();
+                        assertThat(refreshed.get("refreshToken").asText())
+                                        .isNotEqualTo(login.get("refreshToken").asText());
+                        mockMvc.perform(get("/api/customers").header("Authorization",
+                                        "Bearer " + refreshed.get("token").asText())).andExpect(status().isOk());
+                }
+
+                @Test
+                @DisplayName("Should revoke the whole session when a rotated refresh token is reused")
+                void shouldRevokeSessionOnRefreshTokenReuse() throws Exception {
+                        JsonNode login = registerAndLogin("refresh.reuse@example.com");
+                        String firstRefreshToken = login.get("refreshToken").asText();
+                        JsonNode refreshed = objectMapper.readTree(refresh(firstRefreshToken, 200));
+
+                        refresh(firstRefreshToken, 401);
+
+                        refresh(refreshed.get("refreshToken").asText(), 401);
+                        mockMvc.perform(get("/api/customers").header("Authorization",
+                                        "Bearer " + refreshed.get("token").asText())).andExpect(status().isForbidden());
+                }
+
+                @Test
+                @DisplayName("Should reject unknown refresh tokens")
+                void shouldRejectUnknownRefreshToken() throws Exception {
+                        refresh("unknown-refresh-token", 401);
+                }
+
+                @Test
+                @DisplayName("Should revoke the refresh token and access token on logout")
+                void shouldRevokeTokensOnLogout() throws Exception {
+                        JsonNode login = registerAndLogin("logout.test@example.com");
+                        String accessToken = login.get("token").asText();
+                        String refreshToken = login.get("refreshToken").asText();
+
+                        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + accessToken)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                                        .andExpect(status().isNoContent());
+
+                        refresh(refreshToken, 401);
+                        mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + accessToken))
+                                        .andExpect(status().isForbidden());
+                }
+        }
 }
@@ -245,6 +245,32 @@ class CustomerControllerIntegrationTest {
                     .andExpect(jsonPath("$.contactEmail").value(TEST_CONTACT_EMAIL));
         }
 
+        @Test
+        @DisplayName("Should answer 304 while the customer is unchanged and 200 once it is updated")
+        void shouldSupportConditionalGet() throws Exception {
+            Customer customer = customerRepository
+                    .save(new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+
+            String etag = mockMvc
+                    .perform(get("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk()).andExpect(header().exists("Last-Modified")).andReturn().getResponse()
+                    .getHeader("ETag");
+
+            mockMvc.perform(get("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-None-Match", etag)).andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            mockMvc.perform(put("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateCustomerRequest("Renamed Company", null))))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-None-Match", etag)).andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(etag)))
+                    .andExpect(jsonPath("$.companyName").value("Renamed Company"));
+        }
+
         @Test
         @DisplayName("Should return 404 when customer does not exist")
         void shouldReturn404WhenCustomerDoesNotExist() throws Exception {
@@ -302,6 +328,180 @@ class CustomerControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/customers/search")
+    class SearchCustomersEndpoint {
+
+        @Test
+        @DisplayName("Should return matching customers of the authenticated user only")
+        void shouldSearchOwnCustomers() throws Exception {
+            customerRepository.save(new Customer(testUser.getId(), "Acme Corporation", new Email("billing@acme.com")));
+            customerRepository.save(new Customer(testUser.getId(), "Globex", new Email("accounts@globex.io")));
+
+            User anotherUser = userRepository
+                    .register(new User(new Email("another@example.com"), "Password123!", "Jane", "Smith"));
+            customerRepository.save(new Customer(anotherUser.getId(), "Acme Rival", new Email("rival@acme.com")));
+
+            mockMvc.perform(get("/api/customers/search").param("q", "acme corp").header("Authorization",
+                    "Bearer " + jwtToken)).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].companyName").value("Acme Corporation"));
+        }
+
+        @Test
+        @DisplayName("Should reject request without authentication token")
+        void shouldRejectWithoutAuthenticationToken() throws Exception {
+            mockMvc.perform(get("/api/customers/search").param("q", "acme")).andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/customers/{id}/payment-statistics")
+    class GetPaymentStatisticsEndpoint {
+
+        @Test
+        @DisplayName("Should return empty statistics for a customer without payments")
+        void shouldReturnEmptyStatistics() throws Exception {
+            Customer customer = customerRepository
+                    .save(new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+
+            mockMvc.perform(get("/api/customers/{id}/payment-statistics", customer.getId().toString())
+                    .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.customerId").value(customer.getId().toString()))
+                    .andExpect(jsonPath("$.paymentCount").value(0))
+                    .andExpect(jsonPath("$.medianDaysLate").value(0.0))
+                    .andExpect(jsonPath("$.onTimeRatio").value(0.0));
+        }
+
+        @Test
+        @DisplayName("Should deny access to another user's customer")
+        void shouldDenyForeignCustomer() throws Exception {
+            User anotherUser = userRepository
+                    .register(new User(new Email("another@example.com"), "Password123!", "Jane", "Smith"));
+            Customer foreign = customerRepository
+                    .save(new Customer(anotherUser.getId(), "Foreign Corp", new Email("foreign@corp.com")));
+
+            mockMvc.perform(get("/api/customers/{id}/payment-statistics", foreign.getId().toString())
+                    .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/customers/import")
+    class ImportCustomersEndpoint {
+
+        @Test
+        @DisplayName("Should import CSV rows, skipping duplicates and reporting invalid lines")
+        void shouldImportCsv() throws Exception {
+            customerRepository.save(new Customer(testUser.getId(), "Existing Ltd", new Email("hello@existing.com")));
+            String csv = """
+                    companyName,contactEmail
+                    Acme Corporation,billing@acme.com
+                    "Globex, Inc.",accounts@globex.io
+                    Existing Ltd,other@existing.com
+                    Acme Corporation,again@acme.com
+                    Initech,not-an-email
+                    """;
+
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("text/csv").content(csv)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2)).andExpect(jsonPath("$.skipped").value(2))
+                    .andExpect(jsonPath("$.rejected").value(1)).andExpect(jsonPath("$.errors[0].line").value(6));
+
+            mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(3))
+                    .andExpect(jsonPath("$[*].companyName",
+                            containsInAnyOrder("Acme Corporation", "Existing Ltd", "Globex, Inc.")));
+        }
+
+        @Test
+        @DisplayName("Should import NDJSON rows and reject malformed lines")
+        void shouldImportNdjson() throws Exception {
+            String ndjson = """
+                    {"companyName":"Acme Corporation","contactEmail":"billing@acme.com"}
+                    {"companyName":"Globex"
+                    {"companyName":"Initech","contactEmail":"info@initech.com"}
+                    """;
+
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("application/x-ndjson").content(ndjson)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2)).andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(2));
+        }
+
+        @Test
+        @DisplayName("Should read quoted CSV fields spanning lines as one row reported at its first line")
+        void shouldReadMultiLineQuotedFields() throws Exception {
+            String csv = """
+                    companyName,contactEmail,notes
+                    Acme Corporation,billing@acme.com,"first line
+                    second line"
+                    Globex,not-an-email,"spans
+                    two lines"
+                    Initech,info@initech.com,
+                    """;
+
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("text/csv").content(csv)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2)).andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(4));
+
+            mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].companyName", containsInAnyOrder("Acme Corporation", "Initech")));
+        }
+
+        @Test
+        @DisplayName("Should reject a CSV row whose quoted field is never closed")
+        void shouldRejectUnterminatedQuotedField() throws Exception {
+            String csv = """
+                    companyName,contactEmail
+                    Acme Corporation,billing@acme.com
+                    "Globex,accounts@globex.io
+                    Initech,info@initech.com
+                    """;
+
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("text/csv").content(csv)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1)).andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(3))
+                    .andExpect(jsonPath("$.errors[0].message").value(containsString("Unterminated")));
+        }
+
+        @Test
+        @DisplayName("Should report rows whose name is still held by a deleted customer and import the rest")
+        void shouldReportNamesHeldByDeletedCustomers() throws Exception {
+            Customer deleted = customerRepository
+                    .save(new Customer(testUser.getId(), "Defunct Ltd", new Email("old@defunct.com")));
+            customerRepository.markDeletedByIdAndUserId(deleted.getId(), testUser.getId());
+            String csv = """
+                    companyName,contactEmail
+                    Acme Corporation,billing@acme.com
+                    Defunct Ltd,new@defunct.com
+                    """;
+
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("text/csv").content(csv)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1)).andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(3))
+                    .andExpect(jsonPath("$.errors[0].message").value(containsString("deleted customer")));
+        }
+
+        @Test
+        @DisplayName("Should reject CSV without the expected header")
+        void shouldRejectCsvWithoutHeader() throws Exception {
+            mockMvc.perform(post("/api/customers/import").header("Authorization", "Bearer " + jwtToken)
+                    .contentType("text/csv").content("name,email\nAcme,billing@acme.com\n"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should reject request without authentication token")
+        void shouldRejectWithoutAuthenticationToken() throws Exception {
+            mockMvc.perform(post("/api/customers/import").contentType("text/csv")
+                    .content("companyName,contactEmail\n")).andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/customers")
     class GetAllCustomersEndpoint {
@@ -322,6 +522,26 @@ class CustomerControllerIntegrationTest {
                             containsInAnyOrder("contact@companya.com", "contact@companyb.com")));
         }
 
+        @Test
+        @DisplayName("Should answer 304 for an unchanged collection and 200 after a customer is added")
+        void shouldSupportConditionalGetOnCollection() throws Exception {
+            customerRepository.save(new Customer(testUser.getId(), "Company A", new Email("contact@companya.com")));
+
+            String etag = mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk()).andExpect(header().exists("ETag")).andReturn().getResponse()
+                    .getHeader("ETag");
+
+            mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + jwtToken).header("If-None-Match",
+                    etag)).andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/customers").param("limit", "1").header("Authorization", "Bearer " + jwtToken)
+                    .header("If-None-Match", etag)).andExpect(status().isOk());
+
+            customerRepository.save(new Customer(testUser.getId(), "Company B", new Email("contact@companyb.com")));
+
+            mockMvc.perform(get("/api/customers").header("Authorization", "Bearer " + jwtToken).header("If-None-Match",
+                    etag)).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(2));
+        }
+
         @Test
         @DisplayName("Should return empty array when user has no customers")
         void shouldReturnEmptyArrayWhenNoCustomers() throws Exception {
@@ -348,6 +568,35 @@ class CustomerControllerIntegrationTest {
                     .andExpect(jsonPath("$[0].contactEmail").value("own@example.com"));
         }
 
+        @Test
+        @DisplayName("Should page through customers ordered by company name with a cursor")
+        void shouldPageThroughCustomersWithCursor() throws Exception {
+            customerRepository.save(new Customer(testUser.getId(), "Charlie", new Email("c@example.com")));
+            customerRepository.save(new Customer(testUser.getId(), "Alpha", new Email("a@example.com")));
+            customerRepository.save(new Customer(testUser.getId(), "Bravo", new Email("b@example.com")));
+
+            String nextCursor = mockMvc
+                    .perform(get("/api/customers").param("limit", "2").header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].companyName").value("Alpha"))
+                    .andExpect(jsonPath("$[1].companyName").value("Bravo"))
+                    .andExpect(header().exists("X-Next-Cursor")).andReturn().getResponse()
+                    .getHeader("X-Next-Cursor");
+
+            mockMvc.perform(get("/api/customers").param("limit", "2").param("cursor", nextCursor)
+                    .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].companyName").value("Charlie"))
+                    .andExpect(header().doesNotExist("X-Next-Cursor"));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() throws Exception {
+            mockMvc.perform(get("/api/customers").param("cursor", "not-a-cursor").header("Authorization",
+                    "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should reject request without authentication token")
         void shouldRejectWithoutAuthenticationToken() throws Exception {
@@ -381,6 +630,37 @@ class CustomerControllerIntegrationTest {
                     .andExpect(jsonPath("$.contactEmail").value("updated@example.com"));
         }
 
+        @Test
+        @DisplayName("Should update when If-Match carries the current version and return the new ETag")
+        void shouldUpdateWithMatchingIfMatch() throws Exception {
+            Customer customer = customerRepository
+                    .save(new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+
+            mockMvc.perform(put("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-Match", "\"" + customer.getVersion() + "\"").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateCustomerRequest("Updated Company", null))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + (customer.getVersion() + 1) + "\""))
+                    .andExpect(jsonPath("$.version").value(customer.getVersion() + 1));
+        }
+
+        @Test
+        @DisplayName("Should return 412 when If-Match carries a stale version")
+        void shouldReturn412WhenIfMatchIsStale() throws Exception {
+            Customer customer = customerRepository
+                    .save(new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL)));
+
+            mockMvc.perform(put("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-Match", "\"" + (customer.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateCustomerRequest("Updated Company", null))))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.title").value("Precondition Failed"));
+
+            mockMvc.perform(get("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(jsonPath("$.companyName").value(TEST_COMPANY_NAME));
+        }
+
         @Test
         @DisplayName("Should successfully update only company name")
         void shouldUpdateOnlyCompanyName() throws Exception {
@@ -548,14 +828,45 @@ class CustomerControllerIntegrationTest {
     class DeleteCustomerEndpoint {
 
         @Test
-        @DisplayName("Should successfully delete existing customer")
+        @DisplayName("Should accept deletion and hide the customer immediately")
         void shouldDeleteExistingCustomer() throws Exception {
             Customer customer = new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL));
             customer = customerRepository.save(customer);
 
             mockMvc.perform(
                     delete("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken))
-                    .andExpect(status().isNoContent());
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location",
+                            endsWith("/api/customers/" + customer.getId() + "/deletion")))
+                    .andExpect(jsonPath("$.customerId").value(customer.getId().toString()))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+
+            mockMvc.perform(get("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/api/customers/{id}/deletion", customer.getId()).header("Authorization",
+                    "Bearer " + jwtToken)).andExpect(status().isOk()).andExpect(jsonPath("$.status").value("PENDING"));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when recreating a customer whose deletion is still pending")
+        void shouldReturn409WhenRecreatingPendingDeletion() throws Exception {
+            Customer customer = new Customer(testUser.getId(), TEST_COMPANY_NAME, new Email(TEST_CONTACT_EMAIL));
+            customer = customerRepository.save(customer);
+            mockMvc.perform(
+                    delete("/api/customers/{id}", customer.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isAccepted());
+
+            CreateCustomerRequest request = new CreateCustomerRequest(TEST_COMPANY_NAME, TEST_CONTACT_EMAIL);
+            mockMvc.perform(post("/api/customers").header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Should return 404 for the deletion status of an unknown customer")
+        void shouldReturn404ForUnknownDeletionStatus() throws Exception {
+            mockMvc.perform(get("/api/customers/{id}/deletion", UUID.randomUUID()).header("Authorization",
+                    "Bearer " + jwtToken)).andExpect(status().isNotFound());
         }
 
         @Test
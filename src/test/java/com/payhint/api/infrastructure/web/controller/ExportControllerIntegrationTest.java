@@ -0,0 +1,158 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.PaymentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.PaymentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("ExportController Integration Tests")
+class ExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    @Autowired
+    private PaymentSpringRepository paymentSpringRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository
+                .register(new User(new Email("exporter@payhint.com"), "Password123!", "John", "Doe"));
+        Customer acme = customerRepository
+                .save(new Customer(user.getId(), "Acme, Inc.", new Email("billing@acme.com")));
+        customerRepository.save(new Customer(user.getId(), "Globex", new Email("accounts@globex.io")));
+
+        InvoiceJpaEntity invoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                .customer(customerSpringRepository.findById(acme.getId().value()).orElseThrow())
+                .invoiceReference("INV-001").totalAmount(new BigDecimal("1200.00")).currency("EUR").build());
+        InstallmentJpaEntity installment = installmentSpringRepository.save(InstallmentJpaEntity.builder()
+                .invoice(invoice).amountDue(new BigDecimal("1200.00")).dueDate(LocalDate.of(2025, 1, 31)).build());
+        paymentSpringRepository.save(PaymentJpaEntity.builder().installment(installment)
+                .amount(new BigDecimal("400.50")).paymentDate(LocalDate.of(2025, 1, 15)).build());
+
+        User otherUser = userRepository
+                .register(new User(new Email("other@payhint.com"), "Password123!", "Jane", "Smith"));
+        customerRepository.save(new Customer(otherUser.getId(), "Initech", new Email("info@initech.com")));
+
+        UserPrincipal userPrincipal = new UserPrincipal(user.getId().value(), user.getEmail().value(),
+                user.getPassword(), Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should stream the authenticated user's customers as CSV")
+    void shouldExportCustomersAsCsv() throws Exception {
+        MvcResult result = mockMvc
+                .perform(get("/api/exports/customers").header("Authorization", "Bearer " + jwtToken))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("customers.csv")))
+                .andExpect(content().string(startsWith("id,companyName,contactEmail,createdAt,updatedAt\r\n")))
+                .andExpect(content().string(containsString(",\"Acme, Inc.\",billing@acme.com,")))
+                .andExpect(content().string(containsString(",Globex,accounts@globex.io,")))
+                .andExpect(content().string(not(containsString("Initech"))));
+    }
+
+    @Test
+    @DisplayName("Should stream invoices as NDJSON")
+    void shouldExportInvoicesAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/exports/invoices").param("format", "ndjson")
+                .header("Authorization", "Bearer " + jwtToken)).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"invoiceReference\":\"INV-001\"")))
+                .andExpect(content().string(containsString("\"companyName\":\"Acme, Inc.\"")))
+                .andExpect(content().string(endsWith("}\n")));
+    }
+
+    @Test
+    @DisplayName("Should stream payments joined to their invoice and customer")
+    void shouldExportPayments() throws Exception {
+        MvcResult result = mockMvc
+                .perform(get("/api/exports/payments").header("Authorization", "Bearer " + jwtToken))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().string(containsString(",INV-001,\"Acme, Inc.\",")))
+                .andExpect(content().string(containsString(",2025-01-31,400.50,EUR,2025-01-15,")));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported export formats")
+    void shouldRejectUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/exports/customers").param("format", "xlsx").header("Authorization",
+                "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject request without authentication token")
+    void shouldRejectWithoutAuthenticationToken() throws Exception {
+        mockMvc.perform(get("/api/exports/customers")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,327 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.payhint.api.application.billing.dto.request.CreateInstallmentRequest;
+import com.payhint.api.application.billing.dto.request.CreateInvoiceRequest;
+import com.payhint.api.application.billing.dto.request.RecordPaymentRequest;
+import com.payhint.api.application.billing.dto.request.UpdateInvoiceRequest;
+import com.payhint.api.domain.billing.model.Installment;
+import com.payhint.api.domain.billing.model.Invoice;
+import com.payhint.api.domain.billing.repository.InstallmentRepository;
+import com.payhint.api.domain.billing.repository.InvoiceRepository;
+import com.payhint.api.domain.billing.valueobjects.InvoiceReference;
+import com.payhint.api.domain.billing.valueobjects.Money;
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("InvoiceController Integration Tests")
+class InvoiceControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Customer customer;
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = userRepository
+                .register(new User(new Email("invoicer@payhint.com"), "Password123!", "John", "Doe"));
+        customer = customerRepository.save(new Customer(testUser.getId(), "Acme", new Email("billing@acme.com")));
+
+        UserPrincipal userPrincipal = new UserPrincipal(testUser.getId().value(), testUser.getEmail().value(),
+                testUser.getPassword(), Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+    }
+
+    private Invoice saveInvoice(String reference) {
+        return invoiceRepository.save(new Invoice(customer.getId(), new InvoiceReference(reference),
+                new Money(new BigDecimal("1200.00")), "EUR"));
+    }
+
+    @Nested
+    @DisplayName("POST /api/invoices")
+    class CreateInvoiceEndpoint {
+
+        @Test
+        @DisplayName("Should create an invoice for the user's customer")
+        void shouldCreateInvoice() throws Exception {
+            CreateInvoiceRequest request = new CreateInvoiceRequest(customer.getId().toString(), "INV-001",
+                    new BigDecimal("1200.00"), "EUR");
+
+            mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated()).andExpect(jsonPath("$.id").isNotEmpty())
+                    .andExpect(jsonPath("$.customerId").value(customer.getId().toString()))
+                    .andExpect(jsonPath("$.invoiceReference").value("INV-001"))
+                    .andExpect(jsonPath("$.totalAmount").value(1200.00))
+                    .andExpect(jsonPath("$.installments", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should return 409 for a duplicate reference")
+        void shouldReturn409ForDuplicateReference() throws Exception {
+            saveInvoice("INV-001");
+            CreateInvoiceRequest request = new CreateInvoiceRequest(customer.getId().toString(), "INV-001",
+                    new BigDecimal("10.00"), "EUR");
+
+            mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Should reject a negative total amount")
+        void shouldRejectNegativeTotal() throws Exception {
+            CreateInvoiceRequest request = new CreateInvoiceRequest(customer.getId().toString(), "INV-001",
+                    new BigDecimal("-1.00"), "EUR");
+
+            mockMvc.perform(post("/api/invoices").header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors").value(containsString("totalAmount")));
+        }
+
+        @Test
+        @DisplayName("Should reject request without authentication token")
+        void shouldRejectWithoutAuthenticationToken() throws Exception {
+            mockMvc.perform(post("/api/invoices").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/invoices/{id}")
+    class GetInvoiceEndpoint {
+
+        @Test
+        @DisplayName("Should return the invoice with an ETag and answer 304 when it is unchanged")
+        void shouldReturnNotModifiedForMatchingETag() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+
+            String etag = mockMvc
+                    .perform(get("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk()).andExpect(jsonPath("$.invoiceReference").value("INV-001"))
+                    .andExpect(header().exists("ETag")).andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-None-Match", etag)).andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown invoice")
+        void shouldReturn404ForUnknownInvoice() throws Exception {
+            mockMvc.perform(get("/api/invoices/{id}", "00000000-0000-0000-0000-000000000000").header("Authorization",
+                    "Bearer " + jwtToken)).andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return 403 for another user's invoice")
+        void shouldReturn403ForAnotherUsersInvoice() throws Exception {
+            User otherUser = userRepository
+                    .register(new User(new Email("other@payhint.com"), "Password123!", "Jane", "Smith"));
+            Customer otherCustomer = customerRepository
+                    .save(new Customer(otherUser.getId(), "Initech", new Email("info@initech.com")));
+            Invoice invoice = invoiceRepository.save(new Invoice(otherCustomer.getId(),
+                    new InvoiceReference("INV-900"), new Money(new BigDecimal("10.00")), "EUR"));
+
+            mockMvc.perform(get("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isForbidden()).andExpect(jsonPath("$.status").value(403));
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /api/invoices/{id}")
+    class UpdateInvoiceEndpoint {
+
+        @Test
+        @DisplayName("Should update when If-Match carries the current version")
+        void shouldUpdateWithMatchingIfMatch() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+
+            mockMvc.perform(put("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-Match", "\"" + invoice.getVersion() + "\"").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateInvoiceRequest("INV-002", null, null))))
+                    .andExpect(status().isOk()).andExpect(header().exists("ETag"))
+                    .andExpect(jsonPath("$.invoiceReference").value("INV-002"));
+        }
+
+        @Test
+        @DisplayName("Should return 412 when If-Match carries a stale version")
+        void shouldReturn412WhenIfMatchIsStale() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+
+            mockMvc.perform(put("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("If-Match", "\"" + (invoice.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateInvoiceRequest("INV-002", null, null))))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.title").value("Precondition Failed"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/invoices/{id}/installments")
+    class AddInstallmentEndpoint {
+
+        @Test
+        @DisplayName("Should add an installment and return the updated invoice")
+        void shouldAddInstallment() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+            CreateInstallmentRequest request = new CreateInstallmentRequest(new BigDecimal("400.00"),
+                    LocalDate.now().plusDays(30));
+
+            mockMvc.perform(post("/api/invoices/{id}/installments", invoice.getId())
+                    .header("Authorization", "Bearer " + jwtToken).contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.installments", hasSize(1)))
+                    .andExpect(jsonPath("$.installments[0].amountDue").value(400.00))
+                    .andExpect(jsonPath("$.installments[0].status").value("PENDING"));
+        }
+
+        @Test
+        @DisplayName("Should reject installments exceeding the invoice total")
+        void shouldRejectInstallmentExceedingTotal() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+            CreateInstallmentRequest request = new CreateInstallmentRequest(new BigDecimal("5000.00"),
+                    LocalDate.now().plusDays(30));
+
+            mockMvc.perform(post("/api/invoices/{id}/installments", invoice.getId())
+                    .header("Authorization", "Bearer " + jwtToken).contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))).andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/invoices/{id}/installments/{installmentId}/payments")
+    class RecordPaymentEndpoint {
+
+        private Invoice invoice;
+        private Installment installment;
+
+        @BeforeEach
+        void setUpInstallment() {
+            invoice = saveInvoice("INV-001");
+            installment = Installment.builder().invoiceId(invoice.getId())
+                    .amountDue(new Money(new BigDecimal("400.00"))).dueDate(LocalDate.now().plusDays(30)).build();
+            invoice.addInstallment(installment);
+            installment = installmentRepository.save(installment);
+            invoice = invoiceRepository.save(invoice);
+        }
+
+        private String paymentBody(String amount) throws Exception {
+            return objectMapper.writeValueAsString(new RecordPaymentRequest(new BigDecimal(amount), LocalDate.now()));
+        }
+
+        @Test
+        @DisplayName("Should record a payment and replay it for a repeated Idempotency-Key")
+        void shouldReplayRepeatedIdempotencyKey() throws Exception {
+            String paymentId = JsonPath.read(mockMvc
+                    .perform(post("/api/invoices/{id}/installments/{installmentId}/payments", invoice.getId(),
+                            installment.getId()).header("Authorization", "Bearer " + jwtToken)
+                            .header("Idempotency-Key", "provider-retry-1").contentType(MediaType.APPLICATION_JSON)
+                            .content(paymentBody("150.00")))
+                    .andExpect(status().isCreated()).andExpect(header().doesNotExist("Idempotent-Replayed"))
+                    .andExpect(jsonPath("$.installmentStatus").value("PARTIALLY_PAID"))
+                    .andExpect(jsonPath("$.invoiceRemainingAmount").value(1050.00)).andReturn().getResponse()
+                    .getContentAsString(), "$.payment.id");
+
+            mockMvc.perform(post("/api/invoices/{id}/installments/{installmentId}/payments", invoice.getId(),
+                    installment.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("Idempotency-Key", "provider-retry-1").contentType(MediaType.APPLICATION_JSON)
+                    .content(paymentBody("150.00"))).andExpect(status().isCreated())
+                    .andExpect(header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.payment.id").value(paymentId));
+
+            mockMvc.perform(get("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(jsonPath("$.totalPaid").value(150.00))
+                    .andExpect(jsonPath("$.installments[0].payments", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when an Idempotency-Key is reused for a different payment")
+        void shouldReturn409ForReusedKey() throws Exception {
+            mockMvc.perform(post("/api/invoices/{id}/installments/{installmentId}/payments", invoice.getId(),
+                    installment.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("Idempotency-Key", "provider-retry-1").contentType(MediaType.APPLICATION_JSON)
+                    .content(paymentBody("150.00"))).andExpect(status().isCreated());
+
+            mockMvc.perform(post("/api/invoices/{id}/installments/{installmentId}/payments", invoice.getId(),
+                    installment.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .header("Idempotency-Key", "provider-retry-1").contentType(MediaType.APPLICATION_JSON)
+                    .content(paymentBody("10.00"))).andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive payment amount")
+        void shouldRejectNonPositiveAmount() throws Exception {
+            mockMvc.perform(post("/api/invoices/{id}/installments/{installmentId}/payments", invoice.getId(),
+                    installment.getId()).header("Authorization", "Bearer " + jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON).content(paymentBody("0.00")))
+                    .andExpect(status().isBadRequest()).andExpect(jsonPath("$.errors").value(containsString("amount")));
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/invoices/{id}")
+    class DeleteInvoiceEndpoint {
+
+        @Test
+        @DisplayName("Should delete the invoice")
+        void shouldDeleteInvoice() throws Exception {
+            Invoice invoice = saveInvoice("INV-001");
+
+            mockMvc.perform(delete("/api/invoices/{id}", invoice.getId()).header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isNoContent());
+        }
+    }
+}
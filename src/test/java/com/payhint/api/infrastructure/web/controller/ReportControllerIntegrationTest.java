@@ -0,0 +1,166 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.payhint.api.domain.crm.model.Customer;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.CustomerRepository;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InstallmentJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.entity.InvoiceJpaEntity;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InstallmentSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.billing.repository.InvoiceSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.CustomerSpringRepository;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("ReportController Integration Tests")
+class ReportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private CustomerSpringRepository customerSpringRepository;
+
+    @Autowired
+    private InvoiceSpringRepository invoiceSpringRepository;
+
+    @Autowired
+    private InstallmentSpringRepository installmentSpringRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Customer acme;
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.register(new User(new Email("reporter@payhint.com"), "Password123!", "John", "Doe"));
+        acme = customerRepository.save(new Customer(user.getId(), "Acme", new Email("billing@acme.com")));
+
+        InvoiceJpaEntity invoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                .customer(customerSpringRepository.findById(acme.getId().value()).orElseThrow())
+                .invoiceReference("INV-001").totalAmount(new BigDecimal("1200.00")).currency("EUR").build());
+        installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(invoice)
+                .amountDue(new BigDecimal("700.00")).amountPaid(new BigDecimal("200.00"))
+                .dueDate(LocalDate.now().minusDays(40)).build());
+        installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(invoice)
+                .amountDue(new BigDecimal("500.00")).dueDate(LocalDate.now().plusDays(20)).build());
+
+        User otherUser = userRepository
+                .register(new User(new Email("other@payhint.com"), "Password123!", "Jane", "Smith"));
+        Customer initech = customerRepository
+                .save(new Customer(otherUser.getId(), "Initech", new Email("info@initech.com")));
+        InvoiceJpaEntity otherInvoice = invoiceSpringRepository.save(InvoiceJpaEntity.builder()
+                .customer(customerSpringRepository.findById(initech.getId().value()).orElseThrow())
+                .invoiceReference("INV-001").totalAmount(new BigDecimal("90.00")).currency("USD").build());
+        installmentSpringRepository.save(InstallmentJpaEntity.builder().invoice(otherInvoice)
+                .amountDue(new BigDecimal("90.00")).dueDate(LocalDate.now().minusDays(100)).build());
+
+        UserPrincipal userPrincipal = new UserPrincipal(user.getId().value(), user.getEmail().value(),
+                user.getPassword(), Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        jwtToken = jwtTokenProvider.generateToken(userPrincipal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerSpringRepository.deleteAll();
+        userSpringRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return the authenticated user's aging buckets per currency")
+    void shouldReturnAgingPerCurrency() throws Exception {
+        mockMvc.perform(get("/api/reports/aging").header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.groupBy").value("currency"))
+                .andExpect(jsonPath("$.asOf").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$.rows", hasSize(1))).andExpect(jsonPath("$.rows[0].currency").value("EUR"))
+                .andExpect(jsonPath("$.rows[0].customerId").value(nullValue()))
+                .andExpect(jsonPath("$.rows[0].current").value(500.00))
+                .andExpect(jsonPath("$.rows[0].days31To60").value(500.00))
+                .andExpect(jsonPath("$.rows[0].over90Days").value(0.00))
+                .andExpect(jsonPath("$.rows[0].total").value(1000.00));
+    }
+
+    @Test
+    @DisplayName("Should break the aging report down by customer")
+    void shouldReturnAgingPerCustomer() throws Exception {
+        mockMvc.perform(get("/api/reports/aging").param("groupBy", "customer").header("Authorization",
+                "Bearer " + jwtToken)).andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy").value("customer"))
+                .andExpect(jsonPath("$.rows[0].customerId").value(acme.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown grouping")
+    void shouldRejectUnknownGrouping() throws Exception {
+        mockMvc.perform(get("/api/reports/aging").param("groupBy", "invoice").header("Authorization",
+                "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should forecast the authenticated user's inflows per week")
+    void shouldReturnWeeklyCashflowForecast() throws Exception {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        mockMvc.perform(get("/api/reports/cashflow").param("from", monday.toString())
+                .param("to", monday.plusDays(13).toString()).param("granularity", "week")
+                .header("Authorization", "Bearer " + jwtToken)).andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("week"))
+                .andExpect(jsonPath("$.periods", hasSize(2)))
+                .andExpect(jsonPath("$.periods[0].start").value(monday.toString()))
+                .andExpect(jsonPath("$.periods[0].end").value(monday.plusDays(6).toString()))
+                .andExpect(jsonPath("$.periods[0].amounts", hasSize(1)))
+                .andExpect(jsonPath("$.periods[0].amounts[0].currency").value("EUR"))
+                .andExpect(jsonPath("$.periods[0].amounts[0].expectedAmount").value(500.00))
+                .andExpect(jsonPath("$.periods[0].amounts[0].installmentCount").value(1))
+                .andExpect(jsonPath("$.periods[1].amounts[0].expectedAmount").value(0.00));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed forecast date")
+    void shouldRejectMalformedForecastDate() throws Exception {
+        mockMvc.perform(get("/api/reports/cashflow").param("from", "2026-13-01").header("Authorization",
+                "Bearer " + jwtToken)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should require authentication")
+    void shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/reports/aging")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/reports/cashflow")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,101 @@
+package com.payhint.api.infrastructure.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.payhint.api.application.crm.dto.request.BulkRegisterUsersRequest;
+import com.payhint.api.application.crm.dto.request.RegisterUserRequest;
+import com.payhint.api.domain.crm.model.User;
+import com.payhint.api.domain.crm.repository.UserRepository;
+import com.payhint.api.domain.crm.valueobjects.Email;
+import com.payhint.api.infrastructure.persistence.jpa.crm.repository.UserSpringRepository;
+import com.payhint.api.infrastructure.security.JwtTokenProvider;
+import com.payhint.api.infrastructure.security.UserPrincipal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserController Integration Tests")
+class UserControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSpringRepository userSpringRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String adminToken;
+    private String userToken;
+    private String body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userSpringRepository.deleteAll();
+        adminToken = tokenFor(
+                userRepository.register(new User(new Email("admin@payhint.com"), "Password123!", "Ada", "Admin")));
+        userToken = tokenFor(
+                userRepository.register(new User(new Email("regular@payhint.com"), "Password123!", "Reg", "Ular")));
+        body = objectMapper.writeValueAsString(new BulkRegisterUsersRequest(
+                List.of(new RegisterUserRequest("bulk.one@payhint.com", "Password123!", "Bulk", "One"),
+                        new RegisterUserRequest("regular@payhint.com", "Password123!", "Reg", "Again"))));
+    }
+
+    private String tokenFor(User user) {
+        return jwtTokenProvider.generateToken(
+                new UserPrincipal(user.getId().value(), user.getEmail().value(), user.getPassword(), null));
+    }
+
+    @Test
+    @DisplayName("Should register users in bulk for the administrator")
+    void shouldRegisterForAdministrator() throws Exception {
+        mockMvc.perform(post("/api/users/bulk").header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON).content(body)).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created", hasSize(1)))
+                .andExpect(jsonPath("$.created[0].email").value("bulk.one@payhint.com"))
+                .andExpect(jsonPath("$.skipped", contains("regular@payhint.com")));
+
+        assertThat(userRepository.existsByEmail(new Email("bulk.one@payhint.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forbid bulk registration for a regular user")
+    void shouldForbidRegularUser() throws Exception {
+        mockMvc.perform(post("/api/users/bulk").header("Authorization", "Bearer " + userToken)
+                .contentType(MediaType.APPLICATION_JSON).content(body)).andExpect(status().isForbidden());
+
+        assertThat(userRepository.existsByEmail(new Email("bulk.one@payhint.com"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forbid bulk registration without authentication")
+    void shouldForbidAnonymous() throws Exception {
+        mockMvc.perform(post("/api/users/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isForbidden());
+    }
+}